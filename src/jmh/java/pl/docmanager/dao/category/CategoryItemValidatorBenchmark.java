@@ -0,0 +1,64 @@
+package pl.docmanager.dao.category;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import pl.docmanager.domain.category.CategoryBuilder;
+import pl.docmanager.domain.category.CategoryItem;
+import pl.docmanager.domain.category.CategoryItemBuilder;
+import pl.docmanager.domain.category.CategoryItemContentType;
+import pl.docmanager.domain.page.PageBuilder;
+import pl.docmanager.domain.solution.Solution;
+import pl.docmanager.domain.solution.SolutionBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CategoryItemValidatorBenchmark {
+
+    private CategoryItemValidator categoryItemValidator;
+    private CategoryItem pageItem;
+    private CategoryItem categoryItem;
+
+    @Setup
+    public void setup() {
+        categoryItemValidator = new CategoryItemValidator();
+        Solution solution = new SolutionBuilder(1).build();
+
+        pageItem = new CategoryItemBuilder(1, new CategoryBuilder(1, solution).build())
+                .withContentType(CategoryItemContentType.PAGE)
+                .withContentPage(new PageBuilder(1, solution).build())
+                .withIndex(0)
+                .build();
+
+        categoryItem = new CategoryItemBuilder(2, new CategoryBuilder(1, solution).build())
+                .withContentType(CategoryItemContentType.CATEGORY)
+                .withContentCategory(new CategoryBuilder(2, solution).build())
+                .withIndex(1)
+                .build();
+    }
+
+    @Benchmark
+    public CategoryItem validatePageItem() {
+        categoryItemValidator.validateCategoryItem(pageItem);
+        return pageItem;
+    }
+
+    @Benchmark
+    public CategoryItem validateCategoryItem() {
+        categoryItemValidator.validateCategoryItem(categoryItem);
+        return categoryItem;
+    }
+}
@@ -0,0 +1,92 @@
+package pl.docmanager.dao.page;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import pl.docmanager.dao.category.CategoryItemDao;
+import pl.docmanager.domain.category.CategoryBuilder;
+import pl.docmanager.domain.category.CategoryItem;
+import pl.docmanager.domain.category.CategoryItemBuilder;
+import pl.docmanager.domain.category.CategoryItemContentType;
+import pl.docmanager.domain.page.Page;
+import pl.docmanager.domain.page.PageBuilder;
+import pl.docmanager.domain.solution.Solution;
+import pl.docmanager.domain.solution.SolutionBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PageDaoBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int categoriesCount;
+
+    private PageDao pageDao;
+    private Page page;
+    private List<Long> requestedCategoriesIds;
+
+    @Setup
+    public void setup() {
+        Solution solution = new SolutionBuilder(1).build();
+        page = new PageBuilder(1, solution).build();
+
+        // the page currently belongs to categories [0, n), the request moves it to [n / 2, n + n / 2)
+        List<CategoryItem> currentCategoryItems = new ArrayList<>();
+        for (long i = 0; i < categoriesCount; i++) {
+            currentCategoryItems.add(new CategoryItemBuilder(i, new CategoryBuilder(i, solution).build())
+                    .withContentType(CategoryItemContentType.PAGE)
+                    .withContentPage(page)
+                    .build());
+        }
+
+        requestedCategoriesIds = new ArrayList<>();
+        for (long i = categoriesCount / 2; i < categoriesCount + categoriesCount / 2; i++) {
+            requestedCategoriesIds.add(i);
+        }
+
+        pageDao = new PageDao(null, new PageValidator(), new InMemoryCategoryItemDao(currentCategoryItems));
+    }
+
+    @Benchmark
+    public Page addPageToCategories() {
+        pageDao.addPageToCategories(page, requestedCategoriesIds);
+        return page;
+    }
+
+    private static class InMemoryCategoryItemDao extends CategoryItemDao {
+        private final List<CategoryItem> categoryItems;
+
+        InMemoryCategoryItemDao(List<CategoryItem> categoryItems) {
+            super(null, null);
+            this.categoryItems = categoryItems;
+        }
+
+        @Override
+        public List<CategoryItem> getAllByContentPageId(long contentPageId) {
+            return categoryItems;
+        }
+
+        @Override
+        public void addAll(List<CategoryItem> categoryItems) {
+        }
+
+        @Override
+        public void removeAll(List<CategoryItem> categoryItems) {
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package pl.docmanager.dao.page;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import pl.docmanager.domain.page.Page;
+import pl.docmanager.domain.page.PageBuilder;
+import pl.docmanager.domain.solution.SolutionBuilder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PagePatchBenchmark {
+
+    private ObjectReader patchReader;
+    private ObjectReader mapReader;
+    private byte[] renameUpdate;
+    private byte[] fullUpdate;
+    private Page page;
+
+    @Setup
+    public void setup() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        patchReader = objectMapper.readerFor(PagePatch.class);
+        mapReader = objectMapper.readerFor(new TypeReference<Map<String, Object>>() {});
+        renameUpdate = "{\"name\": \"newName\"}".getBytes(StandardCharsets.UTF_8);
+        fullUpdate = "{\"name\": \"newName\", \"url\": \"new_url\", \"content\": \"newContent\"}"
+                .getBytes(StandardCharsets.UTF_8);
+        page = new PageBuilder(1, new SolutionBuilder(1).build())
+                .withName("examplePage")
+                .withUrl("example_page")
+                .withContent("exampleContent")
+                .build();
+    }
+
+    @Benchmark
+    public boolean parseAndApplyRenameUpdate() throws IOException {
+        PagePatch patch = patchReader.readValue(renameUpdate);
+        return patch.applyTo(page);
+    }
+
+    @Benchmark
+    public boolean parseAndApplyFullUpdate() throws IOException {
+        PagePatch patch = patchReader.readValue(fullUpdate);
+        return patch.applyTo(page);
+    }
+
+    @Benchmark
+    public Map<String, Object> parseFullUpdateAsMap() throws IOException {
+        return mapReader.readValue(fullUpdate);
+    }
+}
@@ -0,0 +1,127 @@
+package pl.docmanager.domain;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.afterburner.AfterburnerModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import pl.docmanager.domain.category.Category;
+import pl.docmanager.domain.category.CategoryBuilder;
+import pl.docmanager.domain.category.CategoryItem;
+import pl.docmanager.domain.category.CategoryItemBuilder;
+import pl.docmanager.domain.category.CategoryItemContentType;
+import pl.docmanager.domain.page.Page;
+import pl.docmanager.domain.page.PageBuilder;
+import pl.docmanager.domain.solution.Solution;
+import pl.docmanager.domain.solution.SolutionBuilder;
+import pl.docmanager.domain.user.User;
+import pl.docmanager.domain.user.UserBuilder;
+import pl.docmanager.web.response.CategoryItemResponse;
+import pl.docmanager.web.response.PageResponse;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializationBenchmark {
+
+    @Param({"1024", "131072"})
+    private int contentLength;
+
+    private ObjectMapper reflectiveObjectMapper;
+    // configured the same way as the ObjectMapper used by the REST controllers
+    private ObjectMapper objectMapper;
+    private Page page;
+    private CategoryItem categoryItem;
+
+    @Setup
+    public void setup() {
+        reflectiveObjectMapper = Jackson2ObjectMapperBuilder.json().build();
+        objectMapper = Jackson2ObjectMapperBuilder.json().modulesToInstall(new AfterburnerModule()).build();
+
+        LocalDateTime createDate = LocalDateTime.of(2018, 6, 1, 12, 0);
+        Solution solution = new SolutionBuilder(1)
+                .withName("exampleSolution")
+                .withCreateDate(createDate)
+                .build();
+        User admin = new UserBuilder(2, solution)
+                .withEmail("admin@example.com")
+                .withPassword("$2a$10$abcdefghijklmnopqrstuvABCDEFGHIJKLMNOPQRSTUVWXYZ01234")
+                .withJoinDate(createDate)
+                .build();
+        User author = new UserBuilder(1, solution)
+                .withEmail("user@example.com")
+                .withPassword("$2a$10$abcdefghijklmnopqrstuvABCDEFGHIJKLMNOPQRSTUVWXYZ01234")
+                .withJoinDate(createDate)
+                .withCreatedBy(admin)
+                .build();
+
+        char[] content = new char[contentLength];
+        Arrays.fill(content, 'a');
+        page = new PageBuilder(1, solution)
+                .withAutor(author)
+                .withName("examplePage")
+                .withContent(new String(content))
+                .withCreateDate(createDate)
+                .withUrl("example_page")
+                .build();
+
+        Category category = new CategoryBuilder(1, solution)
+                .withAuthor(author)
+                .withName("exampleCategory")
+                .withCreateDate(createDate)
+                .withUrl("example_category")
+                .build();
+        categoryItem = new CategoryItemBuilder(1, category)
+                .withContentType(CategoryItemContentType.PAGE)
+                .withContentPage(page)
+                .withIndex(0)
+                .build();
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] serializeCategoryItem() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(categoryItem);
+    }
+
+    @Benchmark
+    public byte[] serializePageResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(new PageResponse(page));
+    }
+
+    @Benchmark
+    public byte[] serializeCategoryItemResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(new CategoryItemResponse(categoryItem));
+    }
+
+    @Benchmark
+    public byte[] serializePageReflective() throws JsonProcessingException {
+        return reflectiveObjectMapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] serializeCategoryItemReflective() throws JsonProcessingException {
+        return reflectiveObjectMapper.writeValueAsBytes(categoryItem);
+    }
+}
@@ -0,0 +1,66 @@
+package pl.docmanager.domain.compression;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CompressedTextConverterBenchmark {
+
+    @Param({"512", "16384", "262144"})
+    private int contentLength;
+
+    private CompressedTextConverter converter;
+    private String content;
+    private byte[] column;
+    private byte[] utf8;
+
+    @Setup
+    public void setup() {
+        converter = new CompressedTextConverter();
+        StringBuilder builder = new StringBuilder();
+        String paragraph = "Lorem ipsum dolor sit amet, consectetur adipiscing elit. ";
+        for (int i = 0; builder.length() < contentLength; i++) {
+            builder.append(paragraph).append(i).append(' ');
+        }
+        content = builder.substring(0, contentLength);
+        column = converter.convertToDatabaseColumn(content);
+        utf8 = content.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public byte[] write() {
+        return converter.convertToDatabaseColumn(content);
+    }
+
+    @Benchmark
+    public String read() {
+        return converter.convertToEntityAttribute(column);
+    }
+
+    @Benchmark
+    public byte[] writeUncompressed() {
+        return content.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public String readUncompressed() {
+        return new String(utf8, StandardCharsets.UTF_8);
+    }
+}
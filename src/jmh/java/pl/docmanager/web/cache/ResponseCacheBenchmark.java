@@ -0,0 +1,85 @@
+package pl.docmanager.web.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reads of a page working set held entirely on heap against one held mostly off heap, behind an on-heap tier of
+ * {@code onHeapPercent} of the pages. Every read also allocates some request garbage so that young collections
+ * run; compare them with {@code -prof gc}, and the pauses with {@code -jvmArgsAppend -Xlog:gc} (or
+ * {@code -verbose:gc} on Java 8).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx2g", "-XX:MaxDirectMemorySize=2g"})
+public class ResponseCacheBenchmark {
+
+    @Param({"onHeap", "offHeap"})
+    private String tier;
+
+    @Param({"16384"})
+    private int pages;
+
+    @Param({"32768"})
+    private int contentLength;
+
+    @Param({"5"})
+    private int onHeapPercent;
+
+    private ResponseCache<String> cache;
+    private String[] keys;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        boolean offHeap = "offHeap".equals(tier);
+        int maxEntries = offHeap ? Math.max(1, pages * onHeapPercent / 100) : pages;
+        // room for every page with its gzipped copy, rounded up to whole blocks
+        long offHeapBytes = offHeap ? (long) pages * (contentLength + contentLength / 2 + 8192) : 0;
+        cache = new ResponseCache<>(new ObjectMapper(), value -> 1L, maxEntries, TimeUnit.HOURS.toMillis(1), 2048,
+                offHeapBytes);
+
+        keys = new String[pages];
+        Random random = new Random(42);
+        for (int i = 0; i < pages; i++) {
+            keys[i] = "1/page_" + i;
+            String content = content(random);
+            cache.get(keys[i], () -> content);
+        }
+    }
+
+    @Benchmark
+    public void get(Blackhole blackhole) {
+        String key = keys[ThreadLocalRandom.current().nextInt(keys.length)];
+        blackhole.consume(cache.get(key, () -> {
+            throw new IllegalStateException("Not cached: " + key);
+        }));
+        blackhole.consume(new byte[4096]);
+    }
+
+    private String content(Random random) {
+        StringBuilder builder = new StringBuilder(contentLength);
+        while (builder.length() < contentLength) {
+            builder.append("word").append(random.nextInt(10000)).append(' ');
+        }
+        return builder.substring(0, contentLength);
+    }
+}
@@ -0,0 +1,62 @@
+package pl.docmanager.web.security;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import pl.docmanager.dao.UserRepository;
+import pl.docmanager.domain.solution.SolutionBuilder;
+import pl.docmanager.domain.user.User;
+import pl.docmanager.domain.user.UserBuilder;
+
+import java.lang.reflect.Proxy;
+import java.util.Date;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtTokenBenchmark {
+
+    private static final String USER_EMAIL = "user@example.com";
+
+    private String secret;
+    private Date expiration;
+    private String apiToken;
+    private ApiTokenDecoder apiTokenDecoder;
+
+    @Setup
+    public void setup() {
+        secret = SecretKeeper.getInstance().getSecret();
+        expiration = new Date(System.currentTimeMillis() + 2_678_400_000L);
+        apiToken = JwtTokenGenerator.generateToken(USER_EMAIL, secret, expiration);
+
+        // only findByEmail is used by the decoder, so the repository is stubbed without touching the database
+        User user = new UserBuilder(1, new SolutionBuilder(1).build()).withEmail(USER_EMAIL).build();
+        UserRepository userRepository = (UserRepository) Proxy.newProxyInstance(
+                UserRepository.class.getClassLoader(),
+                new Class<?>[]{UserRepository.class},
+                (proxy, method, args) -> Optional.of(user));
+        apiTokenDecoder = new ApiTokenDecoder(userRepository);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return JwtTokenGenerator.generateToken(USER_EMAIL, secret, expiration);
+    }
+
+    @Benchmark
+    public User decodeToken() {
+        return apiTokenDecoder.getUseFromApiToken(apiToken);
+    }
+}
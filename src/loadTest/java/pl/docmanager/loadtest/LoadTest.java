@@ -0,0 +1,149 @@
+package pl.docmanager.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import pl.docmanager.Application;
+import pl.docmanager.loadtest.LoadTestDataSeeder.SeededSolution;
+import pl.docmanager.web.security.JwtTokenGenerator;
+import pl.docmanager.web.security.SecretKeeper;
+
+import javax.persistence.EntityManagerFactory;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Boots {@link Application} against an in-memory H2 database (the "loadtest" profile), seeds it with synthetic
+ * solutions, users, category trees, pages and settings, and drives the REST API from concurrent clients.
+ * <p>
+ * Options are read from {@code loadtest.*} system properties, see {@link LoadTestOptions}. Latency percentiles and
+ * throughput per endpoint are printed and written as JSON to {@code loadtest.report}.
+ * <p>
+ * With {@code loadtest.virtualThreads=true} the application serves requests on virtual threads (JDK 21+). Running
+ * the test twice with {@code loadtest.clients=2000}, with and without it, compares the two execution modes. With
+ * {@code loadtest.preIssueTokens=true} the clients get their API tokens up front instead of logging in, so that
+ * thousands of bcrypt logins do not overlap the measurement.
+ */
+public class LoadTest {
+
+    private static final long TOKEN_VALIDITY_MILLIS = TimeUnit.HOURS.toMillis(1);
+
+    private final LoadTestOptions options;
+    private final String baseUrl;
+    private final List<SeededSolution> solutions;
+
+    public LoadTest(LoadTestOptions options, String baseUrl, List<SeededSolution> solutions) {
+        this.options = options;
+        this.baseUrl = baseUrl;
+        this.solutions = solutions;
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = new LoadTestOptions();
+        SpringApplication application = new SpringApplication(Application.class);
+        application.setAdditionalProfiles("loadtest");
+
+        String[] applicationArgs = Arrays.copyOf(args, args.length + 1);
+        applicationArgs[args.length] = "--docmanager.virtual-threads.enabled=" + options.isVirtualThreads();
+
+        try (ConfigurableApplicationContext context = application.run(applicationArgs)) {
+            List<SeededSolution> solutions =
+                    new LoadTestDataSeeder(context.getBean(EntityManagerFactory.class), options).seed();
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+
+            Map<String, EndpointStats> stats = new LoadTest(options, baseUrl, solutions).run();
+            report(options, stats);
+        }
+    }
+
+    public Map<String, EndpointStats> run() throws Exception {
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicBoolean recording = new AtomicBoolean(false);
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+        connectionManager.setMaxTotal(options.getClients());
+        connectionManager.setDefaultMaxPerRoute(options.getClients());
+
+        try (CloseableHttpClient httpClient = HttpClients.custom().setConnectionManager(connectionManager).build()) {
+            List<LoadTestClient> clients = new ArrayList<>();
+            List<Thread> threads = new ArrayList<>();
+            for (int i = 0; i < options.getClients(); i++) {
+                SeededSolution solution = solutions.get(i % solutions.size());
+                String userEmail = solution.getUserEmails().get((i / solutions.size()) % solution.getUserEmails().size());
+                String apiToken = options.isPreIssueTokens() ? issueToken(userEmail) : null;
+                LoadTestClient client = new LoadTestClient(httpClient, baseUrl, solution, userEmail, apiToken,
+                        options.getWriteRatio(), running, recording, i);
+                Thread thread = new Thread(client, "loadtest-client-" + i);
+                clients.add(client);
+                threads.add(thread);
+                thread.start();
+            }
+
+            Thread.sleep(options.getWarmupSeconds() * 1000L);
+            recording.set(true);
+            Thread.sleep(options.getDurationSeconds() * 1000L);
+            recording.set(false);
+            running.set(false);
+            for (Thread thread : threads) {
+                thread.join();
+            }
+
+            Map<String, EndpointStats> merged = new LinkedHashMap<>();
+            for (LoadTestClient client : clients) {
+                client.getStats().forEach((endpoint, endpointStats) ->
+                        merged.computeIfAbsent(endpoint, EndpointStats::new).merge(endpointStats));
+            }
+            return merged;
+        }
+    }
+
+    private static String issueToken(String userEmail) {
+        return JwtTokenGenerator.generateToken(userEmail, SecretKeeper.getInstance().getSecret(),
+                new Date(System.currentTimeMillis() + TOKEN_VALIDITY_MILLIS));
+    }
+
+    private static void report(LoadTestOptions options, Map<String, EndpointStats> stats) throws IOException {
+        List<Map<String, Object>> endpoints = new ArrayList<>();
+        System.out.println("Load test finished: " + options);
+        System.out.println(String.format("%-55s %10s %8s %10s %10s %10s %10s",
+                "endpoint", "requests", "errors", "req/s", "p50 ms", "p99 ms", "p999 ms"));
+
+        for (EndpointStats endpointStats : stats.values()) {
+            // logins happen once per client, before the measurement window starts
+            double throughput = LoadTestClient.LOGIN.equals(endpointStats.getEndpoint()) ? 0 :
+                    endpointStats.getCount() / (double) options.getDurationSeconds();
+            Map<String, Object> endpoint = new LinkedHashMap<>();
+            endpoint.put("endpoint", endpointStats.getEndpoint());
+            endpoint.put("requests", endpointStats.getCount());
+            endpoint.put("errors", endpointStats.getErrors());
+            endpoint.put("throughputPerSecond", throughput);
+            endpoint.put("p50Millis", endpointStats.percentileMillis(0.5));
+            endpoint.put("p99Millis", endpointStats.percentileMillis(0.99));
+            endpoint.put("p999Millis", endpointStats.percentileMillis(0.999));
+            endpoints.add(endpoint);
+
+            System.out.println(String.format("%-55s %10d %8d %10.1f %10.2f %10.2f %10.2f",
+                    endpoint.get("endpoint"), endpoint.get("requests"), endpoint.get("errors"), throughput,
+                    endpoint.get("p50Millis"), endpoint.get("p99Millis"), endpoint.get("p999Millis")));
+        }
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("options", options);
+        report.put("endpoints", endpoints);
+        File reportFile = new File(options.getReport());
+        reportFile.getAbsoluteFile().getParentFile().mkdirs();
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(reportFile, report);
+        System.out.println("Report written to " + reportFile.getAbsolutePath());
+    }
+}
@@ -0,0 +1,132 @@
+package pl.docmanager.loadtest;
+
+import org.apache.http.HttpResponse;
+import org.apache.http.client.HttpClient;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.methods.HttpPatch;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.entity.ContentType;
+import org.apache.http.entity.StringEntity;
+import org.apache.http.util.EntityUtils;
+import pl.docmanager.loadtest.LoadTestDataSeeder.SeededSolution;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class LoadTestClient implements Runnable {
+
+    static final String LOGIN = "POST /api/login";
+    static final String GET_PAGE = "GET /api/pages/solution/{solutionId}/url/{url}";
+    static final String UPDATE_PAGE = "PATCH /api/pages/solution/{solutionId}/url/{url}";
+    static final String GET_CATEGORY = "GET /api/categories/solution/{solutionId}/url/{url}";
+    static final String GET_CATEGORY_ITEMS = "GET /api/category_items/category/{categoryId}";
+    static final String GET_SETTINGS = "GET /api/settings/solution/{solutionId}/name/{name}";
+
+    private final HttpClient httpClient;
+    private final String baseUrl;
+    private final SeededSolution solution;
+    private final String userEmail;
+    private final double writeRatio;
+    private final AtomicBoolean running;
+    private final AtomicBoolean recording;
+    private final Random random;
+    private final Map<String, EndpointStats> stats = new LinkedHashMap<>();
+
+    private String apiToken;
+
+    public LoadTestClient(HttpClient httpClient, String baseUrl, SeededSolution solution, String userEmail,
+                          String apiToken, double writeRatio, AtomicBoolean running, AtomicBoolean recording,
+                          long seed) {
+        this.httpClient = httpClient;
+        this.baseUrl = baseUrl;
+        this.solution = solution;
+        this.userEmail = userEmail;
+        this.apiToken = apiToken;
+        this.writeRatio = writeRatio;
+        this.running = running;
+        this.recording = recording;
+        this.random = new Random(seed);
+    }
+
+    @Override
+    public void run() {
+        try {
+            if (apiToken == null) {
+                login();
+            }
+            while (running.get()) {
+                double dice = random.nextDouble();
+                if (dice < writeRatio) {
+                    updatePage();
+                } else if (dice < writeRatio + (1 - writeRatio) * 0.5) {
+                    execute(GET_PAGE, new HttpGet(baseUrl + "/api/pages/solution/" + solution.getSolutionId() +
+                            "/url/" + pick(solution.getPageUrls())));
+                } else if (dice < writeRatio + (1 - writeRatio) * 0.7) {
+                    execute(GET_CATEGORY, new HttpGet(baseUrl + "/api/categories/solution/" +
+                            solution.getSolutionId() + "/url/" + pick(solution.getCategoryUrls())));
+                } else if (dice < writeRatio + (1 - writeRatio) * 0.9) {
+                    execute(GET_CATEGORY_ITEMS, new HttpGet(baseUrl + "/api/category_items/category/" +
+                            pick(solution.getCategoryIds())));
+                } else {
+                    execute(GET_SETTINGS, new HttpGet(baseUrl + "/api/settings/solution/" +
+                            solution.getSolutionId() + "/name/" + pick(solution.getSettingsNames())));
+                }
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Load test client for " + userEmail + " failed", e);
+        }
+    }
+
+    public Map<String, EndpointStats> getStats() {
+        return stats;
+    }
+
+    private void login() throws IOException {
+        HttpPost login = new HttpPost(baseUrl + "/api/login");
+        login.setEntity(new StringEntity("{\"email\": \"" + userEmail + "\", \"password\": \"" +
+                LoadTestDataSeeder.PASSWORD + "\"}", ContentType.APPLICATION_JSON));
+
+        long start = System.nanoTime();
+        HttpResponse response = httpClient.execute(login);
+        EntityUtils.consume(response.getEntity());
+        stats(LOGIN).record(System.nanoTime() - start, response.getStatusLine().getStatusCode() >= 400);
+
+        if (response.getFirstHeader("apiToken") == null) {
+            throw new IllegalStateException("Login failed for " + userEmail + ": " + response.getStatusLine());
+        }
+        apiToken = response.getFirstHeader("apiToken").getValue();
+    }
+
+    private void updatePage() throws IOException {
+        HttpPatch patch = new HttpPatch(baseUrl + "/api/pages/solution/" + solution.getSolutionId() +
+                "/url/" + pick(solution.getPageUrls()));
+        patch.setEntity(new StringEntity("{\"name\": \"Page renamed " + random.nextInt() + "\"}",
+                ContentType.APPLICATION_JSON));
+        execute(UPDATE_PAGE, patch);
+    }
+
+    private void execute(String endpoint, HttpUriRequest request) throws IOException {
+        request.setHeader("apiToken", apiToken);
+        long start = System.nanoTime();
+        HttpResponse response = httpClient.execute(request);
+        EntityUtils.consume(response.getEntity());
+        long latency = System.nanoTime() - start;
+
+        if (recording.get()) {
+            stats(endpoint).record(latency, response.getStatusLine().getStatusCode() >= 400);
+        }
+    }
+
+    private EndpointStats stats(String endpoint) {
+        return stats.computeIfAbsent(endpoint, EndpointStats::new);
+    }
+
+    private <T> T pick(List<T> values) {
+        return values.get(random.nextInt(values.size()));
+    }
+}
@@ -0,0 +1,176 @@
+package pl.docmanager.loadtest;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import pl.docmanager.domain.category.Category;
+import pl.docmanager.domain.category.CategoryBuilder;
+import pl.docmanager.domain.category.CategoryItemBuilder;
+import pl.docmanager.domain.category.CategoryItemContentType;
+import pl.docmanager.domain.global.Settings;
+import pl.docmanager.domain.page.Page;
+import pl.docmanager.domain.page.PageBuilder;
+import pl.docmanager.domain.solution.Solution;
+import pl.docmanager.domain.solution.SolutionBuilder;
+import pl.docmanager.domain.user.User;
+import pl.docmanager.domain.user.UserBuilder;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+public class LoadTestDataSeeder {
+
+    public static final String PASSWORD = "loadtest";
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final LoadTestOptions options;
+
+    public LoadTestDataSeeder(EntityManagerFactory entityManagerFactory, LoadTestOptions options) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.options = options;
+    }
+
+    public List<SeededSolution> seed() {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            entityManager.getTransaction().begin();
+
+            String passwordHash = new BCryptPasswordEncoder().encode(PASSWORD);
+            String content = generateContent(options.getContentLength());
+            LocalDateTime now = LocalDateTime.now();
+            List<SeededSolution> seededSolutions = new ArrayList<>();
+
+            for (int s = 0; s < options.getSolutions(); s++) {
+                Solution solution = new SolutionBuilder(0)
+                        .withName("solution" + s)
+                        .withCreateDate(now)
+                        .build();
+                entityManager.persist(solution);
+                SeededSolution seeded = new SeededSolution(solution.getId());
+
+                User author = null;
+                for (int u = 0; u < options.getUsersPerSolution(); u++) {
+                    User user = new UserBuilder(0, solution)
+                            .withEmail("user" + u + "@solution" + s + ".example.com")
+                            .withPassword(passwordHash)
+                            .withJoinDate(now)
+                            .withCreatedBy(author)
+                            .build();
+                    entityManager.persist(user);
+                    seeded.getUserEmails().add(user.getEmail());
+                    if (author == null) {
+                        author = user;
+                    }
+                }
+
+                List<Category> categories = new ArrayList<>();
+                for (int c = 0; c < options.getCategoriesPerSolution(); c++) {
+                    Category category = new CategoryBuilder(0, solution)
+                            .withAuthor(author)
+                            .withName("Category " + c)
+                            .withUrl("category_" + c)
+                            .withCreateDate(now)
+                            .build();
+                    entityManager.persist(category);
+                    categories.add(category);
+                    seeded.getCategoryUrls().add(category.getUrl());
+                    seeded.getCategoryIds().add(category.getId());
+
+                    // every category except the first one is nested in its parent, forming a tree of depth log2(n)
+                    if (c > 0) {
+                        entityManager.persist(new CategoryItemBuilder(0, categories.get((c - 1) / 2))
+                                .withContentType(CategoryItemContentType.CATEGORY)
+                                .withContentCategory(category)
+                                .withIndex(c)
+                                .build());
+                    }
+                }
+
+                for (int p = 0; p < options.getPagesPerSolution(); p++) {
+                    Page page = new PageBuilder(0, solution)
+                            .withAutor(author)
+                            .withName("Page " + p)
+                            .withContent(content)
+                            .withUrl("page_" + p)
+                            .withCreateDate(now)
+                            .build();
+                    entityManager.persist(page);
+                    seeded.getPageUrls().add(page.getUrl());
+
+                    if (!categories.isEmpty()) {
+                        entityManager.persist(new CategoryItemBuilder(0, categories.get(p % categories.size()))
+                                .withContentType(CategoryItemContentType.PAGE)
+                                .withContentPage(page)
+                                .withIndex(p)
+                                .build());
+                    }
+                }
+
+                for (int n = 0; n < options.getSettingsPerSolution(); n++) {
+                    Settings settings = new Settings();
+                    settings.setSolution(solution);
+                    settings.setName("setting_" + n);
+                    settings.setValue("value" + n);
+                    entityManager.persist(settings);
+                    seeded.getSettingsNames().add(settings.getName());
+                }
+
+                seededSolutions.add(seeded);
+                entityManager.flush();
+                entityManager.clear();
+            }
+
+            entityManager.getTransaction().commit();
+            return seededSolutions;
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    private static String generateContent(int length) {
+        char[] content = new char[length];
+        String paragraph = "Lorem ipsum dolor sit amet, consectetur adipiscing elit. ";
+        for (int i = 0; i < length; i++) {
+            content[i] = paragraph.charAt(i % paragraph.length());
+        }
+        return new String(content);
+    }
+
+    public static class SeededSolution {
+        private final long solutionId;
+        private final List<String> userEmails = new ArrayList<>();
+        private final List<String> pageUrls = new ArrayList<>();
+        private final List<String> categoryUrls = new ArrayList<>();
+        private final List<Long> categoryIds = new ArrayList<>();
+        private final List<String> settingsNames = new ArrayList<>();
+
+        SeededSolution(long solutionId) {
+            this.solutionId = solutionId;
+        }
+
+        public long getSolutionId() {
+            return solutionId;
+        }
+
+        public List<String> getUserEmails() {
+            return userEmails;
+        }
+
+        public List<String> getPageUrls() {
+            return pageUrls;
+        }
+
+        public List<String> getCategoryUrls() {
+            return categoryUrls;
+        }
+
+        public List<Long> getCategoryIds() {
+            return categoryIds;
+        }
+
+        public List<String> getSettingsNames() {
+            return settingsNames;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package pl.docmanager.loadtest;
+
+public class LoadTestOptions {
+
+    private final int clients = intProperty("clients", 64);
+    private final int warmupSeconds = intProperty("warmupSeconds", 5);
+    private final int durationSeconds = intProperty("durationSeconds", 30);
+    private final int solutions = intProperty("solutions", 4);
+    private final int usersPerSolution = intProperty("usersPerSolution", 8);
+    private final int pagesPerSolution = intProperty("pagesPerSolution", 200);
+    private final int categoriesPerSolution = intProperty("categoriesPerSolution", 31);
+    private final int settingsPerSolution = intProperty("settingsPerSolution", 10);
+    private final int contentLength = intProperty("contentLength", 16_384);
+    private final double writeRatio = Double.parseDouble(System.getProperty("loadtest.writeRatio", "0.05"));
+    private final boolean virtualThreads = Boolean.parseBoolean(System.getProperty("loadtest.virtualThreads", "false"));
+    private final boolean preIssueTokens = Boolean.parseBoolean(System.getProperty("loadtest.preIssueTokens", "false"));
+    private final String report = System.getProperty("loadtest.report", "build/reports/loadtest/results.json");
+
+    private static int intProperty(String name, int defaultValue) {
+        return Integer.parseInt(System.getProperty("loadtest." + name, String.valueOf(defaultValue)));
+    }
+
+    public int getClients() {
+        return clients;
+    }
+
+    public int getWarmupSeconds() {
+        return warmupSeconds;
+    }
+
+    public int getDurationSeconds() {
+        return durationSeconds;
+    }
+
+    public int getSolutions() {
+        return solutions;
+    }
+
+    public int getUsersPerSolution() {
+        return usersPerSolution;
+    }
+
+    public int getPagesPerSolution() {
+        return pagesPerSolution;
+    }
+
+    public int getCategoriesPerSolution() {
+        return categoriesPerSolution;
+    }
+
+    public int getSettingsPerSolution() {
+        return settingsPerSolution;
+    }
+
+    public int getContentLength() {
+        return contentLength;
+    }
+
+    public double getWriteRatio() {
+        return writeRatio;
+    }
+
+    public boolean isVirtualThreads() {
+        return virtualThreads;
+    }
+
+    public boolean isPreIssueTokens() {
+        return preIssueTokens;
+    }
+
+    public String getReport() {
+        return report;
+    }
+
+    @Override
+    public String toString() {
+        return "clients=" + clients + ", warmupSeconds=" + warmupSeconds + ", durationSeconds=" + durationSeconds +
+                ", solutions=" + solutions + ", usersPerSolution=" + usersPerSolution +
+                ", pagesPerSolution=" + pagesPerSolution + ", categoriesPerSolution=" + categoriesPerSolution +
+                ", settingsPerSolution=" + settingsPerSolution + ", contentLength=" + contentLength +
+                ", writeRatio=" + writeRatio + ", virtualThreads=" + virtualThreads +
+                ", preIssueTokens=" + preIssueTokens;
+    }
+}
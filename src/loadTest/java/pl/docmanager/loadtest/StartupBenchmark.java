@@ -0,0 +1,216 @@
+package pl.docmanager.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import pl.docmanager.Application;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.HttpURLConnection;
+import java.net.ServerSocket;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the time from launching {@link Application} in a new JVM to its first served request, a 200 from
+ * {@code /actuator/health}, against the in-memory H2 database of the "loadtest" profile. The application is started
+ * {@code startup.runs} times as is, with the "faststart" profile, and, on JDK 13+, with the "faststart" profile and
+ * an AppCDS archive recorded by a first, unmeasured start. The edge read node, the "edge" profile, is started with
+ * the JVM options from {@code startup.edgeJvmArgs}. After the first served request the resident set size is read from
+ * {@code process.memory.rss}.
+ * <p>
+ * The JVM running the benchmark and its classpath are used for the application. Class data sharing only archives
+ * classes loaded from jar files, so the dependencies are shared and the application's own classes are not when they
+ * come from a build directory. The minimum, median and maximum time and the median resident set size per
+ * configuration are printed and written as JSON to {@code startup.report}.
+ */
+public class StartupBenchmark {
+
+    private static final long TIMEOUT_MILLIS = TimeUnit.MINUTES.toMillis(5);
+    private static final long POLL_MILLIS = 10;
+    private static final String RSS_METRIC = "process_memory_rss_bytes";
+    // the scrape account of the "loadtest" profile
+    private static final String SCRAPE_AUTHORIZATION = "Basic " +
+            Base64.getEncoder().encodeToString("prometheus:loadtest".getBytes(StandardCharsets.UTF_8));
+
+    private final String java = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+    private final String classpath = System.getProperty("java.class.path");
+    private final int javaVersion = javaVersion();
+
+    public static void main(String[] args) throws Exception {
+        int runs = Integer.getInteger("startup.runs", 5);
+        File report = new File(System.getProperty("startup.report", "build/reports/startup/results.json"));
+        StartupBenchmark benchmark = new StartupBenchmark();
+
+        String[] edgeJvmArgs = System.getProperty("startup.edgeJvmArgs",
+                "-XX:+UseSerialGC -XX:TieredStopAtLevel=1 -Xss256k").trim().split("\\s+");
+
+        Map<String, List<Start>> results = new LinkedHashMap<>();
+        results.put("default", benchmark.measure(runs, "loadtest"));
+        results.put("faststart", benchmark.measure(runs, "loadtest,faststart"));
+        if (benchmark.javaVersion >= 13) {
+            File archive = File.createTempFile("docmanager", ".jsa");
+            try {
+                benchmark.start("loadtest,faststart", "-XX:ArchiveClassesAtExit=" + archive.getAbsolutePath());
+                results.put("faststart+appcds", benchmark.measure(runs, "loadtest,faststart",
+                        "-XX:SharedArchiveFile=" + archive.getAbsolutePath()));
+            } finally {
+                archive.delete();
+            }
+        } else {
+            System.out.println("Skipping AppCDS, it needs JDK 13+ to record the archive at exit");
+        }
+        results.put("edge", benchmark.measure(runs, "loadtest,edge", edgeJvmArgs));
+        report(runs, results, report);
+    }
+
+    private List<Start> measure(int runs, String profiles, String... jvmArgs) throws Exception {
+        List<Start> starts = new ArrayList<>();
+        for (int i = 0; i < runs; i++) {
+            starts.add(start(profiles, jvmArgs));
+        }
+        return starts;
+    }
+
+    /**
+     * Starts the application, waits for its first served request, reads its resident set size and stops it.
+     */
+    private Start start(String profiles, String... jvmArgs) throws Exception {
+        int port = freePort();
+        List<String> command = new ArrayList<>(Collections.singletonList(java));
+        if (javaVersion >= 9) {
+            command.addAll(Arrays.asList(
+                    "--add-opens", "java.base/java.lang=ALL-UNNAMED", "--add-opens", "java.base/java.io=ALL-UNNAMED"));
+        }
+        command.addAll(Arrays.asList(jvmArgs));
+        command.addAll(Arrays.asList("-cp", classpath, Application.class.getName(),
+                "--spring.profiles.active=" + profiles, "--server.port=" + port));
+
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command).redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.appendTo(new File(System.getProperty("java.io.tmpdir"),
+                        "docmanager-startup-benchmark.log")))
+                .start();
+        try {
+            String baseUrl = "http://localhost:" + port;
+            URL health = new URL(baseUrl + "/actuator/health");
+            while (!served(health)) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException("Application exited with " + process.exitValue() + " on start");
+                }
+                if (System.nanoTime() - start > TimeUnit.MILLISECONDS.toNanos(TIMEOUT_MILLIS)) {
+                    throw new IllegalStateException("Application did not serve a request within " + TIMEOUT_MILLIS + " ms");
+                }
+                Thread.sleep(POLL_MILLIS);
+            }
+            long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            return new Start(millis, residentBytes(new URL(baseUrl + "/actuator/prometheus")));
+        } finally {
+            // a graceful stop, the JVM writes the AppCDS archive when it exits
+            process.destroy();
+            if (!process.waitFor(1, TimeUnit.MINUTES)) {
+                process.destroyForcibly().waitFor();
+            }
+        }
+    }
+
+    private static boolean served(URL url) {
+        try {
+            HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+            try {
+                return connection.getResponseCode() == HttpURLConnection.HTTP_OK;
+            } finally {
+                connection.disconnect();
+            }
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private static long residentBytes(URL prometheus) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) prometheus.openConnection();
+        connection.setRequestProperty("Authorization", SCRAPE_AUTHORIZATION);
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(connection.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.startsWith(RSS_METRIC)) {
+                    return (long) Double.parseDouble(line.substring(line.lastIndexOf(' ') + 1));
+                }
+            }
+        }
+        return -1;
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static int javaVersion() {
+        String version = System.getProperty("java.specification.version");
+        return Integer.parseInt(version.startsWith("1.") ? version.substring(2) : version);
+    }
+
+    private static void report(int runs, Map<String, List<Start>> results, File reportFile) throws IOException {
+        List<Map<String, Object>> configurations = new ArrayList<>();
+        System.out.println("Startup benchmark finished, time to first served request over " + runs + " runs");
+        System.out.println(String.format("%-20s %10s %10s %10s %10s",
+                "configuration", "min ms", "median ms", "max ms", "RSS MiB"));
+
+        results.forEach((name, starts) -> {
+            List<Long> millis = new ArrayList<>();
+            List<Long> residentBytes = new ArrayList<>();
+            for (Start start : starts) {
+                millis.add(start.millis);
+                residentBytes.add(start.residentBytes);
+            }
+            List<Long> sortedMillis = new ArrayList<>(millis);
+            Collections.sort(sortedMillis);
+            Collections.sort(residentBytes);
+
+            Map<String, Object> configuration = new LinkedHashMap<>();
+            configuration.put("configuration", name);
+            configuration.put("minMillis", sortedMillis.get(0));
+            configuration.put("medianMillis", sortedMillis.get(sortedMillis.size() / 2));
+            configuration.put("maxMillis", sortedMillis.get(sortedMillis.size() - 1));
+            configuration.put("medianResidentBytes", residentBytes.get(residentBytes.size() / 2));
+            configuration.put("runsMillis", millis);
+            configurations.add(configuration);
+
+            System.out.println(String.format("%-20s %10d %10d %10d %10.1f", name, configuration.get("minMillis"),
+                    configuration.get("medianMillis"), configuration.get("maxMillis"),
+                    residentBytes.get(residentBytes.size() / 2) / (1024d * 1024d)));
+        });
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("runs", runs);
+        report.put("java", System.getProperty("java.version"));
+        report.put("configurations", configurations);
+        reportFile.getAbsoluteFile().getParentFile().mkdirs();
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(reportFile, report);
+        System.out.println("Report written to " + reportFile.getAbsolutePath());
+    }
+
+    private static class Start {
+
+        private final long millis;
+        private final long residentBytes;
+
+        Start(long millis, long residentBytes) {
+            this.millis = millis;
+            this.residentBytes = residentBytes;
+        }
+    }
+}
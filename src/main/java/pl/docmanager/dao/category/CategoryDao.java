@@ -2,11 +2,13 @@ package pl.docmanager.dao.category;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import pl.docmanager.dao.exception.VersionConflictException;
+import pl.docmanager.dao.patch.PatchResult;
 import pl.docmanager.domain.category.Category;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
-import java.util.Map;
 import java.util.NoSuchElementException;
 
 @Service
@@ -27,6 +29,14 @@ public class CategoryDao {
         return ret;
     }
 
+    public List<Category> getCategoriesByUrls(Collection<String> urls, long solutionId) {
+        return categoryRepository.findAllBySolutionIdAndUrlIn(solutionId, urls);
+    }
+
+    public List<Category> getCategoriesByIds(Collection<Long> ids, long solutionId) {
+        return categoryRepository.findAllBySolutionIdAndIdIn(solutionId, ids);
+    }
+
     public Category getCategoryById(long id) {
         return categoryRepository.findById(id).orElseThrow(NoSuchElementException::new);
     }
@@ -40,18 +50,19 @@ public class CategoryDao {
         categoryRepository.save(category);
     }
 
-    public Category updateCategory(Map<String, Object> updatesMap, String url, long solutionId) {
+    public PatchResult updateCategory(CategoryPatch patch, String url, long solutionId, Long expectedVersion) {
         Category existingCategory = categoryRepository.findBySolution_IdAndUrl(solutionId, url).orElseThrow(NoSuchElementException::new);
 
-        categoryValidator.validateLegalUpdate(updatesMap);
-        if (updatesMap.containsKey("name")) {
-            existingCategory.setName(updatesMap.get("name").toString());
+        if (expectedVersion != null && expectedVersion != existingCategory.getVersion()) {
+            throw new VersionConflictException("Category " + url + " is at version " + existingCategory.getVersion() +
+                    ", expected " + expectedVersion);
         }
 
-        if (updatesMap.containsKey("url")) {
-            existingCategory.setUrl(updatesMap.get("url").toString());
+        if (!patch.applyTo(existingCategory)) {
+            return new PatchResult(0, existingCategory.getVersion());
         }
-
-        return categoryRepository.save(existingCategory);
+        // the version is incremented when the transaction flushes, which fails if another writer got there first
+        categoryRepository.save(existingCategory);
+        return new PatchResult(1, existingCategory.getVersion() + 1);
     }
 }
@@ -0,0 +1,62 @@
+package pl.docmanager.dao.category;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import pl.docmanager.dao.patch.PatchDescriptor;
+import pl.docmanager.dao.patch.PatchDeserializer;
+import pl.docmanager.dao.patch.PatchRule;
+import pl.docmanager.domain.category.Category;
+
+@JsonDeserialize(using = CategoryPatch.Deserializer.class)
+public class CategoryPatch {
+
+    public static final PatchDescriptor<CategoryPatch> DESCRIPTOR = new PatchDescriptor<>("Category", CategoryPatch::new)
+            .immutable("id", "solution", "author", "createDate", "state", "version")
+            .field("name", PatchRule.NOT_EMPTY, CategoryPatch::setName)
+            .field("url", PatchRule.NOT_EMPTY, CategoryPatch::setUrl);
+
+    // null means the field is not patched, none of the patchable fields accepts null
+    private String name;
+    private String url;
+
+    public String getName() {
+        return name;
+    }
+
+    public CategoryPatch setName(String name) {
+        this.name = name;
+        return this;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public CategoryPatch setUrl(String url) {
+        this.url = url;
+        return this;
+    }
+
+    public boolean isEmpty() {
+        return name == null && url == null;
+    }
+
+    public boolean applyTo(Category category) {
+        boolean changed = false;
+        if (name != null && !name.equals(category.getName())) {
+            category.setName(name);
+            changed = true;
+        }
+
+        if (url != null && !url.equals(category.getUrl())) {
+            category.setUrl(url);
+            changed = true;
+        }
+        return changed;
+    }
+
+    public static class Deserializer extends PatchDeserializer<CategoryPatch> {
+        public Deserializer() {
+            super(CategoryPatch.class, DESCRIPTOR);
+        }
+    }
+}
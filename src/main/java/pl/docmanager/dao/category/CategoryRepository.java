@@ -1,10 +1,19 @@
 package pl.docmanager.dao.category;
 
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
 import pl.docmanager.domain.category.Category;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface CategoryRepository extends CrudRepository<Category, Long> {
     Optional<Category> findBySolution_IdAndUrl(long solutionId, String url);
+
+    @Query("select c from Category c join fetch c.solution s left join fetch c.author where s.id = ?1 and c.url in ?2")
+    List<Category> findAllBySolutionIdAndUrlIn(long solutionId, Collection<String> urls);
+
+    @Query("select c from Category c join fetch c.solution s left join fetch c.author where s.id = ?1 and c.id in ?2")
+    List<Category> findAllBySolutionIdAndIdIn(long solutionId, Collection<Long> ids);
 }
@@ -0,0 +1,77 @@
+package pl.docmanager.dao.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+
+@Configuration
+public class DataSourceConfiguration {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Lazy @Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 @Lazy @Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                 ObjectProvider<ReadYourWritesTracker> readYourWritesTracker) {
+        // the pools are resolved on first use, creating them here would run Boot's datasource initializer
+        // against this bean while it is still being constructed
+        ReadYourWritesTracker tracker = readYourWritesTracker.getIfAvailable();
+        DataSource target = tracker == null ? primaryDataSource :
+                new ReadReplicaRoutingDataSource(primaryDataSource, replicaDataSource, tracker);
+
+        // connections are taken from the pool on the first statement instead of at transaction begin, which is
+        // when the read-only flag needed for routing is known; transactions that never touch the database
+        // do not take a connection at all
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy();
+        dataSource.setTargetDataSource(target);
+        dataSource.setDefaultAutoCommit(true);
+        dataSource.setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+        dataSource.afterPropertiesSet();
+        return dataSource;
+    }
+
+    @Configuration
+    @ConditionalOnProperty("docmanager.datasource.replica.url")
+    static class ReplicaConfiguration {
+
+        @Bean
+        @ConfigurationProperties("docmanager.datasource.replica.hikari")
+        public HikariDataSource replicaDataSource(
+                DataSourceProperties properties,
+                @Value("${docmanager.datasource.replica.url}") String url,
+                @Value("${docmanager.datasource.replica.username:${spring.datasource.username:}}") String username,
+                @Value("${docmanager.datasource.replica.password:${spring.datasource.password:}}") String password) {
+            HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                    .type(HikariDataSource.class)
+                    .url(url)
+                    .username(username)
+                    .password(password)
+                    .build();
+            dataSource.setReadOnly(true);
+            return dataSource;
+        }
+
+        @Bean
+        public ReadYourWritesTracker readYourWritesTracker(
+                @Value("${docmanager.datasource.replica.read-your-writes-millis:5000}") long windowMillis) {
+            return new ReadYourWritesTracker(windowMillis);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package pl.docmanager.dao.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+@Component
+public class DataSourceTuningPostProcessor implements BeanPostProcessor, EnvironmentAware, Ordered {
+
+    private static final Logger log = LogManager.getLogger(DataSourceTuningPostProcessor.class);
+    private static final String POSTGRES_URL_PREFIX = "jdbc:postgresql:";
+
+    private DataSourceTuningProperties properties;
+
+    @Override
+    public void setEnvironment(Environment environment) {
+        properties = Binder.get(environment)
+                .bind("docmanager.datasource", DataSourceTuningProperties.class)
+                .orElseGet(DataSourceTuningProperties::new);
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof HikariDataSource) {
+            tune((HikariDataSource) bean, beanName);
+        }
+        return bean;
+    }
+
+    void tune(HikariDataSource dataSource, String beanName) {
+        // an explicit spring.datasource.hikari.maximum-pool-size wins over the derived size
+        if (dataSource.getMaximumPoolSize() < 1) {
+            dataSource.setMaximumPoolSize(properties.poolSizeFor(Runtime.getRuntime().availableProcessors()));
+        }
+        if (dataSource.getPoolName() == null) {
+            dataSource.setPoolName(beanName);
+        }
+        // other drivers reject unknown connection properties, so the pgjdbc ones are only added for Postgres
+        if (dataSource.getJdbcUrl() != null && dataSource.getJdbcUrl().startsWith(POSTGRES_URL_PREFIX)) {
+            properties.getPostgresProperties().forEach(dataSource::addDataSourceProperty);
+        }
+        log.info("Pool {} configured with {} connections", dataSource.getPoolName(), dataSource.getMaximumPoolSize());
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+}
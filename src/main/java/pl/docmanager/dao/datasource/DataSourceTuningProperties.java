@@ -0,0 +1,39 @@
+package pl.docmanager.dao.datasource;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class DataSourceTuningProperties {
+
+    private int connectionsPerCore = 2;
+    private int extraConnections = 1;
+    private Map<String, String> postgresProperties = new LinkedHashMap<>();
+
+    public int getConnectionsPerCore() {
+        return connectionsPerCore;
+    }
+
+    public void setConnectionsPerCore(int connectionsPerCore) {
+        this.connectionsPerCore = connectionsPerCore;
+    }
+
+    public int getExtraConnections() {
+        return extraConnections;
+    }
+
+    public void setExtraConnections(int extraConnections) {
+        this.extraConnections = extraConnections;
+    }
+
+    public Map<String, String> getPostgresProperties() {
+        return postgresProperties;
+    }
+
+    public void setPostgresProperties(Map<String, String> postgresProperties) {
+        this.postgresProperties = postgresProperties;
+    }
+
+    public int poolSizeFor(int cores) {
+        return cores * connectionsPerCore + extraConnections;
+    }
+}
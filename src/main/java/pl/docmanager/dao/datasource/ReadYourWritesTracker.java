@@ -0,0 +1,32 @@
+package pl.docmanager.dao.datasource;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class ReadYourWritesTracker {
+
+    private static final int CLEANUP_THRESHOLD = 10_000;
+
+    private final long windowMillis;
+    private final Map<String, Long> lastWrites = new ConcurrentHashMap<>();
+
+    public ReadYourWritesTracker(long windowMillis) {
+        this.windowMillis = windowMillis;
+    }
+
+    public void recordWrite(String session) {
+        long now = System.currentTimeMillis();
+        lastWrites.put(session, now);
+        if (lastWrites.size() > CLEANUP_THRESHOLD) {
+            lastWrites.values().removeIf(lastWrite -> now - lastWrite > windowMillis);
+        }
+    }
+
+    public boolean hasRecentWrite(String session) {
+        if (session == null) {
+            return false;
+        }
+        Long lastWrite = lastWrites.get(session);
+        return lastWrite != null && System.currentTimeMillis() - lastWrite <= windowMillis;
+    }
+}
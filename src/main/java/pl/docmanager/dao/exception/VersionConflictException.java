@@ -0,0 +1,7 @@
+package pl.docmanager.dao.exception;
+
+public class VersionConflictException extends RuntimeException {
+    public VersionConflictException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,34 @@
+package pl.docmanager.dao.menu;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import pl.docmanager.domain.menu.Menu;
+import pl.docmanager.domain.menu.MenuItem;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+public class MenuDao {
+
+    private MenuRepository menuRepository;
+    private MenuItemRepository menuItemRepository;
+
+    @Autowired
+    public MenuDao(MenuRepository menuRepository, MenuItemRepository menuItemRepository) {
+        this.menuRepository = menuRepository;
+        this.menuItemRepository = menuItemRepository;
+    }
+
+    public List<Menu> getAllMenus(long solutionId) {
+        List<Menu> ret = new ArrayList<>();
+        menuRepository.findAllBySolution_Id(solutionId).forEach(ret::add);
+        return ret;
+    }
+
+    public List<MenuItem> getAllMenuItems(long solutionId) {
+        List<MenuItem> ret = new ArrayList<>();
+        menuItemRepository.findAllByMenu_Solution_IdOrderByIndex(solutionId).forEach(ret::add);
+        return ret;
+    }
+}
@@ -0,0 +1,8 @@
+package pl.docmanager.dao.menu;
+
+import org.springframework.data.repository.CrudRepository;
+import pl.docmanager.domain.menu.MenuItem;
+
+public interface MenuItemRepository extends CrudRepository<MenuItem, Long> {
+    Iterable<MenuItem> findAllByMenu_Solution_IdOrderByIndex(long solutionId);
+}
@@ -0,0 +1,8 @@
+package pl.docmanager.dao.menu;
+
+import org.springframework.data.repository.CrudRepository;
+import pl.docmanager.domain.menu.Menu;
+
+public interface MenuRepository extends CrudRepository<Menu, Long> {
+    Iterable<Menu> findAllBySolution_Id(long solutionId);
+}
@@ -2,15 +2,18 @@ package pl.docmanager.dao.page;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import pl.docmanager.dao.category.CategoryItemDao;
+import pl.docmanager.dao.exception.VersionConflictException;
+import pl.docmanager.dao.patch.PatchResult;
 import pl.docmanager.domain.category.CategoryBuilder;
 import pl.docmanager.domain.category.CategoryItem;
 import pl.docmanager.domain.category.CategoryItemBuilder;
 import pl.docmanager.domain.category.CategoryItemContentType;
 import pl.docmanager.domain.page.Page;
 
+import java.util.Collection;
 import java.util.List;
-import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.stream.Collectors;
 
@@ -31,28 +34,37 @@ public class PageDao {
         return pageRepository.findBySolution_IdAndUrl(solutionId, url).orElseThrow(NoSuchElementException::new);
     }
 
+    public List<Page> getPagesByUrls(Collection<String> urls, long solutionId) {
+        return pageRepository.findAllBySolutionIdAndUrlIn(solutionId, urls);
+    }
+
+    public List<Page> getPagesByIds(Collection<Long> ids, long solutionId) {
+        return pageRepository.findAllBySolutionIdAndIdIn(solutionId, ids);
+    }
+
     public Page addPage(Page page) {
         pageValidator.validatePage(page);
         return pageRepository.save(page);
     }
 
-    public Page updatePage(Map<String, Object> updatesMap, String url, long solutionId) {
-        Page existingPage = pageRepository.findBySolution_IdAndUrl(solutionId, url).orElseThrow(NoSuchElementException::new);
-        pageValidator.validateLegalUpdate(updatesMap);
-
-        if (updatesMap.containsKey("name")) {
-            existingPage.setName(updatesMap.get("name").toString());
-        }
-
-        if (updatesMap.containsKey("content")) {
-            existingPage.setContent(updatesMap.get("content").toString());
+    @Transactional
+    public PatchResult updatePage(PagePatch patch, String url, long solutionId, Long expectedVersion) {
+        if (pageRepository.patch(solutionId, url, patch, expectedVersion) == 1) {
+            // the UPDATE holds the row lock until commit, the version read back in this transaction is the one it set
+            long version = expectedVersion != null ? expectedVersion + 1 : pageRepository
+                    .findVersionBySolutionIdAndUrl(solutionId, patch.getUrl() != null ? patch.getUrl() : url)
+                    .orElseThrow(NoSuchElementException::new);
+            return new PatchResult(1, version);
         }
 
-        if (updatesMap.containsKey("url")) {
-            existingPage.setUrl(updatesMap.get("url").toString());
+        // nothing was updated, either the page is missing, it is at another version or the patch changes nothing
+        long currentVersion = pageRepository.findVersionBySolutionIdAndUrl(solutionId, url)
+                .orElseThrow(NoSuchElementException::new);
+        if (expectedVersion != null && expectedVersion != currentVersion) {
+            throw new VersionConflictException("Page " + url + " is at version " + currentVersion +
+                    ", expected " + expectedVersion);
         }
-
-        return pageRepository.save(existingPage);
+        return new PatchResult(0, currentVersion);
     }
 
     public void addPageToCategories(Page page, List<Long> categoriesIds) {
@@ -0,0 +1,78 @@
+package pl.docmanager.dao.page;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import pl.docmanager.dao.patch.PatchDescriptor;
+import pl.docmanager.dao.patch.PatchDeserializer;
+import pl.docmanager.dao.patch.PatchRule;
+import pl.docmanager.domain.page.Page;
+
+@JsonDeserialize(using = PagePatch.Deserializer.class)
+public class PagePatch {
+
+    public static final PatchDescriptor<PagePatch> DESCRIPTOR = new PatchDescriptor<>("Page", PagePatch::new)
+            .immutable("id", "solution", "author", "createDate", "state", "version")
+            .field("name", PatchRule.NOT_EMPTY, PagePatch::setName)
+            .field("content", PatchRule.NOT_NULL, PagePatch::setContent)
+            .field("url", PatchRule.NOT_EMPTY, PagePatch::setUrl);
+
+    // null means the field is not patched, none of the patchable fields accepts null
+    private String name;
+    private String content;
+    private String url;
+
+    public String getName() {
+        return name;
+    }
+
+    public PagePatch setName(String name) {
+        this.name = name;
+        return this;
+    }
+
+    public String getContent() {
+        return content;
+    }
+
+    public PagePatch setContent(String content) {
+        this.content = content;
+        return this;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public PagePatch setUrl(String url) {
+        this.url = url;
+        return this;
+    }
+
+    public boolean isEmpty() {
+        return name == null && content == null && url == null;
+    }
+
+    public boolean applyTo(Page page) {
+        boolean changed = false;
+        if (name != null && !name.equals(page.getName())) {
+            page.setName(name);
+            changed = true;
+        }
+
+        if (content != null && !content.equals(page.getContent())) {
+            page.setContent(content);
+            changed = true;
+        }
+
+        if (url != null && !url.equals(page.getUrl())) {
+            page.setUrl(url);
+            changed = true;
+        }
+        return changed;
+    }
+
+    public static class Deserializer extends PatchDeserializer<PagePatch> {
+        public Deserializer() {
+            super(PagePatch.class, DESCRIPTOR);
+        }
+    }
+}
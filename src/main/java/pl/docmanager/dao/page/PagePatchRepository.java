@@ -0,0 +1,5 @@
+package pl.docmanager.dao.page;
+
+public interface PagePatchRepository {
+    int patch(long solutionId, String url, PagePatch patch, Long expectedVersion);
+}
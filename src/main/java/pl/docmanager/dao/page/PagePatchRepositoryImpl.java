@@ -0,0 +1,64 @@
+package pl.docmanager.dao.page;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.Query;
+import java.util.ArrayList;
+import java.util.List;
+
+public class PagePatchRepositoryImpl implements PagePatchRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public int patch(long solutionId, String url, PagePatch patch, Long expectedVersion) {
+        StringBuilder jpql = new StringBuilder("update Page p set p.version = p.version + 1");
+        List<String> changes = new ArrayList<>();
+        if (patch.getName() != null) {
+            jpql.append(", p.name = :name");
+            changes.add("p.name <> :name");
+        }
+
+        if (patch.getContent() != null) {
+            jpql.append(", p.content = :content");
+            changes.add("p.content <> :content");
+        }
+
+        if (patch.getUrl() != null) {
+            jpql.append(", p.url = :newUrl");
+            changes.add("p.url <> :newUrl");
+        }
+
+        if (changes.isEmpty()) {
+            return 0;
+        }
+
+        jpql.append(" where p.solution.id = :solutionId and p.url = :url");
+        if (expectedVersion != null) {
+            jpql.append(" and p.version = :expectedVersion");
+        }
+        // rows the patch would not change are left alone, so a repeated PATCH does not bump the version
+        jpql.append(" and (").append(String.join(" or ", changes)).append(")");
+
+        Query query = entityManager.createQuery(jpql.toString())
+                .setParameter("solutionId", solutionId)
+                .setParameter("url", url);
+        if (patch.getName() != null) {
+            query.setParameter("name", patch.getName());
+        }
+
+        if (patch.getContent() != null) {
+            query.setParameter("content", patch.getContent());
+        }
+
+        if (patch.getUrl() != null) {
+            query.setParameter("newUrl", patch.getUrl());
+        }
+
+        if (expectedVersion != null) {
+            query.setParameter("expectedVersion", expectedVersion);
+        }
+        return query.executeUpdate();
+    }
+}
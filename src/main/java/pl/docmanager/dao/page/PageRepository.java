@@ -1,10 +1,22 @@
 package pl.docmanager.dao.page;
 
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
 import pl.docmanager.domain.page.Page;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
-public interface PageRepository extends CrudRepository<Page, Long> {
+public interface PageRepository extends CrudRepository<Page, Long>, PagePatchRepository {
     Optional<Page> findBySolution_IdAndUrl(long solutionId, String url);
+
+    @Query("select p.version from Page p where p.solution.id = ?1 and p.url = ?2")
+    Optional<Long> findVersionBySolutionIdAndUrl(long solutionId, String url);
+
+    @Query("select p from Page p join fetch p.solution s left join fetch p.author where s.id = ?1 and p.url in ?2")
+    List<Page> findAllBySolutionIdAndUrlIn(long solutionId, Collection<String> urls);
+
+    @Query("select p from Page p join fetch p.solution s left join fetch p.author where s.id = ?1 and p.id in ?2")
+    List<Page> findAllBySolutionIdAndIdIn(long solutionId, Collection<Long> ids);
 }
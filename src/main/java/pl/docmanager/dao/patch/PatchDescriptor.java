@@ -0,0 +1,79 @@
+package pl.docmanager.dao.patch;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import pl.docmanager.dao.exception.EntityValidationException;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+public class PatchDescriptor<P> {
+
+    private final String entityName;
+    private final Supplier<P> patchFactory;
+    private final Set<String> immutableFields = new HashSet<>();
+    private final Map<String, Field<P>> fields = new HashMap<>();
+
+    public PatchDescriptor(String entityName, Supplier<P> patchFactory) {
+        this.entityName = entityName;
+        this.patchFactory = patchFactory;
+    }
+
+    public PatchDescriptor<P> immutable(String... names) {
+        for (String name : names) {
+            immutableFields.add(name);
+        }
+        return this;
+    }
+
+    public PatchDescriptor<P> field(String name, PatchRule rule, BiConsumer<P, String> setter) {
+        fields.put(name, new Field<>(entityName + "'s " + name + " " + rule.getViolation(), rule, setter));
+        return this;
+    }
+
+    public P parse(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken() == null ? parser.nextToken() : parser.currentToken();
+        if (token != JsonToken.START_OBJECT) {
+            throw new EntityValidationException(entityName + " update must be a JSON object");
+        }
+
+        P patch = patchFactory.get();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.getCurrentName();
+            Field<P> field = fields.get(name);
+            if (field == null) {
+                throw new EntityValidationException(immutableFields.contains(name) ?
+                        "Cannot change " + entityName + "'s " + name : "Unknown " + entityName + " field " + name);
+            }
+
+            token = parser.nextToken();
+            if (token == JsonToken.START_OBJECT || token == JsonToken.START_ARRAY) {
+                throw new EntityValidationException(entityName + "'s " + name + " must be a plain value");
+            }
+
+            String value = token == JsonToken.VALUE_NULL ? null : parser.getText();
+            if (!field.rule.accepts(value)) {
+                throw new EntityValidationException(field.violation);
+            }
+            field.setter.accept(patch, value);
+        }
+        return patch;
+    }
+
+    private static class Field<P> {
+        private final String violation;
+        private final PatchRule rule;
+        private final BiConsumer<P, String> setter;
+
+        private Field(String violation, PatchRule rule, BiConsumer<P, String> setter) {
+            this.violation = violation;
+            this.rule = rule;
+            this.setter = setter;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package pl.docmanager.dao.patch;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+
+import java.io.IOException;
+
+public class PatchDeserializer<P> extends StdDeserializer<P> {
+
+    private final PatchDescriptor<P> descriptor;
+
+    public PatchDeserializer(Class<P> patchClass, PatchDescriptor<P> descriptor) {
+        super(patchClass);
+        this.descriptor = descriptor;
+    }
+
+    @Override
+    public P deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+        return descriptor.parse(parser);
+    }
+}
@@ -0,0 +1,24 @@
+package pl.docmanager.dao.patch;
+
+public class PatchResult {
+
+    private final int updatedRows;
+    private final long version;
+
+    public PatchResult(int updatedRows, long version) {
+        this.updatedRows = updatedRows;
+        this.version = version;
+    }
+
+    public int getUpdatedRows() {
+        return updatedRows;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public boolean isUpdated() {
+        return updatedRows > 0;
+    }
+}
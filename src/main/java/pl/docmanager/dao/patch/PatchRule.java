@@ -0,0 +1,20 @@
+package pl.docmanager.dao.patch;
+
+public enum PatchRule {
+    NOT_NULL("cannot be null"),
+    NOT_EMPTY("cannot be null nor empty");
+
+    private final String violation;
+
+    PatchRule(String violation) {
+        this.violation = violation;
+    }
+
+    public boolean accepts(String value) {
+        return value != null && (this != NOT_EMPTY || !value.isEmpty());
+    }
+
+    public String getViolation() {
+        return violation;
+    }
+}
@@ -4,6 +4,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import pl.docmanager.domain.global.Settings;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.NoSuchElementException;
 
 @Service
@@ -19,4 +21,10 @@ public class SettingsDao {
     public Settings getSettingsByName(String name, long solutionId) {
         return settingsRepository.findBySolution_IdAndName(solutionId, name).orElseThrow(NoSuchElementException::new);
     }
+
+    public List<Settings> getAllSettings(long solutionId) {
+        List<Settings> ret = new ArrayList<>();
+        settingsRepository.findAllBySolution_Id(solutionId).forEach(ret::add);
+        return ret;
+    }
 }
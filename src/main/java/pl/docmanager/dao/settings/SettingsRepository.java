@@ -7,4 +7,5 @@ import java.util.Optional;
 
 public interface SettingsRepository extends CrudRepository<Settings, Long> {
     Optional<Settings> findBySolution_IdAndName(long solutionId, String name);
+    Iterable<Settings> findAllBySolution_Id(long solutionId);
 }
@@ -0,0 +1,110 @@
+package pl.docmanager.dao.sql;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class SqlStatementStatistics {
+
+    private static final int MAX_RECORDED_STATEMENTS = 100;
+    private static final ThreadLocal<SqlStatementStatistics> CURRENT = new ThreadLocal<>();
+
+    private final SqlStatementStatistics parent;
+    private final List<String> statements = new ArrayList<>();
+    private int statementCount;
+    private int commitCount;
+    private long totalNanos;
+    private long statementStartNanos;
+
+    private SqlStatementStatistics(SqlStatementStatistics parent) {
+        this.parent = parent;
+    }
+
+    public static SqlStatementStatistics start() {
+        SqlStatementStatistics statistics = new SqlStatementStatistics(null);
+        CURRENT.set(statistics);
+        return statistics;
+    }
+
+    public static SqlStatementStatistics stop() {
+        SqlStatementStatistics statistics = CURRENT.get();
+        CURRENT.remove();
+        return statistics;
+    }
+
+    public static SqlStatementStatistics current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Wraps a task handed to another thread, the statements it executes count towards the statistics of the thread
+     * submitting it. They are added as they complete, so they are all counted once the submitter sees the task done.
+     */
+    public static Runnable propagate(Runnable task) {
+        SqlStatementStatistics submitter = CURRENT.get();
+        if (submitter == null) {
+            return task;
+        }
+        return () -> {
+            SqlStatementStatistics previous = CURRENT.get();
+            CURRENT.set(new SqlStatementStatistics(submitter));
+            try {
+                task.run();
+            } finally {
+                if (previous == null) {
+                    CURRENT.remove();
+                } else {
+                    CURRENT.set(previous);
+                }
+            }
+        };
+    }
+
+    void beforeStatement() {
+        statementStartNanos = System.nanoTime();
+    }
+
+    void afterStatement(String sql) {
+        record(System.nanoTime() - statementStartNanos, sql);
+    }
+
+    void afterCommit() {
+        if (parent != null) {
+            parent.afterCommit();
+            return;
+        }
+        synchronized (this) {
+            commitCount++;
+        }
+    }
+
+    public synchronized int getStatementCount() {
+        return statementCount;
+    }
+
+    public synchronized int getCommitCount() {
+        return commitCount;
+    }
+
+    public synchronized long getTotalMillis() {
+        return totalNanos / 1_000_000;
+    }
+
+    public synchronized List<String> getStatements() {
+        return new ArrayList<>(statements);
+    }
+
+    // statements of propagated tasks are recorded from their own threads, while the submitter may record its own
+    private void record(long nanos, String sql) {
+        if (parent != null) {
+            parent.record(nanos, sql);
+            return;
+        }
+        synchronized (this) {
+            statementCount++;
+            totalNanos += nanos;
+            if (statements.size() < MAX_RECORDED_STATEMENTS) {
+                statements.add(String.format("[%.2f ms] %s", nanos / 1_000_000.0, sql));
+            }
+        }
+    }
+}
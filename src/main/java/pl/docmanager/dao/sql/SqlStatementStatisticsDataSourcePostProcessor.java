@@ -0,0 +1,33 @@
+package pl.docmanager.dao.sql;
+
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+@Component
+public class SqlStatementStatisticsDataSourcePostProcessor implements BeanPostProcessor, Ordered {
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        // only the application-facing DataSource is wrapped, so statements are not counted twice
+        // when it delegates to other DataSource beans
+        if (bean instanceof DataSource && "dataSource".equals(beanName)) {
+            SqlStatementStatisticsListener listener = new SqlStatementStatisticsListener();
+            return ProxyDataSourceBuilder.create((DataSource) bean)
+                    .name(beanName)
+                    .listener(listener)
+                    .methodListener(listener)
+                    .build();
+        }
+        return bean;
+    }
+
+    @Override
+    public int getOrder() {
+        // after the pool metrics binding, which expects the unwrapped HikariDataSource
+        return Ordered.LOWEST_PRECEDENCE;
+    }
+}
@@ -0,0 +1,64 @@
+package pl.docmanager.dao.sql;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class SqlStatementStatisticsFilter extends OncePerRequestFilter {
+
+    public static final String STATEMENTS_HEADER = "X-Sql-Statements";
+    public static final String TIME_HEADER = "X-Sql-Time-Millis";
+
+    private static final Logger log = LogManager.getLogger(SqlStatementStatisticsFilter.class);
+
+    private int maxStatements;
+    private long maxMillis;
+    private boolean exposeHeaders;
+
+    public SqlStatementStatisticsFilter(@Value("${docmanager.sql.slow-request.statements:20}") int maxStatements,
+                                        @Value("${docmanager.sql.slow-request.millis:200}") long maxMillis,
+                                        @Value("${docmanager.sql.expose-headers:false}") boolean exposeHeaders) {
+        this.maxStatements = maxStatements;
+        this.maxMillis = maxMillis;
+        this.exposeHeaders = exposeHeaders;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        SqlStatementStatistics statistics = SqlStatementStatistics.start();
+        // headers have to be set before the body is committed, so the body is buffered when they are exposed
+        ContentCachingResponseWrapper bufferedResponse = exposeHeaders ? new ContentCachingResponseWrapper(response) : null;
+
+        try {
+            chain.doFilter(request, bufferedResponse != null ? bufferedResponse : response);
+        } finally {
+            SqlStatementStatistics.stop();
+
+            if (statistics.getStatementCount() > maxStatements || statistics.getTotalMillis() > maxMillis) {
+                log.warn("{} {} executed {} SQL statements in {} ms:\n  {}", request.getMethod(),
+                        request.getRequestURI(), statistics.getStatementCount(), statistics.getTotalMillis(),
+                        String.join("\n  ", statistics.getStatements()));
+            }
+
+            if (bufferedResponse != null) {
+                bufferedResponse.setHeader(STATEMENTS_HEADER, String.valueOf(statistics.getStatementCount()));
+                bufferedResponse.setHeader(TIME_HEADER, String.valueOf(statistics.getTotalMillis()));
+                bufferedResponse.copyBodyToResponse();
+            }
+        }
+    }
+}
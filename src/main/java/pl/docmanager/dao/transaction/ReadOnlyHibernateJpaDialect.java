@@ -0,0 +1,47 @@
+package pl.docmanager.dao.transaction;
+
+import org.hibernate.Session;
+import org.springframework.orm.jpa.vendor.HibernateJpaDialect;
+import org.springframework.transaction.TransactionDefinition;
+
+import javax.persistence.EntityManager;
+import java.sql.SQLException;
+
+public class ReadOnlyHibernateJpaDialect extends HibernateJpaDialect {
+
+    @Override
+    public Object beginTransaction(EntityManager entityManager, TransactionDefinition definition)
+            throws SQLException {
+        Object transactionData = super.beginTransaction(entityManager, definition);
+        if (!definition.isReadOnly()) {
+            return transactionData;
+        }
+
+        // the flush mode is already MANUAL for read-only transactions, entities loaded as read-only additionally
+        // skip the snapshots kept for dirty checking
+        Session session = getSession(entityManager);
+        session.setDefaultReadOnly(true);
+        return new ReadOnlyTransactionData(session, transactionData);
+    }
+
+    @Override
+    public void cleanupTransaction(Object transactionData) {
+        if (transactionData instanceof ReadOnlyTransactionData) {
+            ReadOnlyTransactionData readOnlyTransactionData = (ReadOnlyTransactionData) transactionData;
+            // with open-session-in-view the session outlives the transaction
+            readOnlyTransactionData.session.setDefaultReadOnly(false);
+            transactionData = readOnlyTransactionData.delegate;
+        }
+        super.cleanupTransaction(transactionData);
+    }
+
+    private static class ReadOnlyTransactionData {
+        private final Session session;
+        private final Object delegate;
+
+        private ReadOnlyTransactionData(Session session, Object delegate) {
+            this.session = session;
+            this.delegate = delegate;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package pl.docmanager.dao.transaction;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.orm.jpa.AbstractEntityManagerFactoryBean;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ReadOnlyHibernateJpaDialectPostProcessor implements BeanPostProcessor {
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        // the transaction manager takes its dialect from the entity manager factory
+        if (bean instanceof AbstractEntityManagerFactoryBean) {
+            ((AbstractEntityManagerFactoryBean) bean).setJpaDialect(new ReadOnlyHibernateJpaDialect());
+        }
+        return bean;
+    }
+}
@@ -12,6 +12,7 @@ import javax.persistence.Id;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import javax.persistence.Table;
+import javax.persistence.Version;
 import java.time.LocalDateTime;
 
 @Entity
@@ -43,6 +44,10 @@ public class Category {
     @Column(name = "state", nullable = false)
     private CategoryState state;
 
+    @Version
+    @Column(name = "version", nullable = false)
+    private long version;
+
     public long getId() {
         return id;
     }
@@ -98,4 +103,12 @@ public class Category {
     public void setState(CategoryState state) {
         this.state = state;
     }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
 }
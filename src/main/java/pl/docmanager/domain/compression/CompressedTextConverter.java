@@ -0,0 +1,74 @@
+package pl.docmanager.domain.compression;
+
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4FastDecompressor;
+
+import javax.persistence.AttributeConverter;
+import javax.persistence.Converter;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Stores text as a format byte followed by its payload: {@link #FORMAT_RAW} is plain UTF-8, {@link #FORMAT_LZ4} is
+ * the UTF-8 length as a 4-byte int followed by an LZ4 block. Text shorter than {@link #COMPRESSION_THRESHOLD} bytes,
+ * or text that does not shrink, is stored raw.
+ */
+@Converter
+public class CompressedTextConverter implements AttributeConverter<String, byte[]> {
+
+    public static final byte FORMAT_RAW = 0;
+    public static final byte FORMAT_LZ4 = 1;
+    public static final int COMPRESSION_THRESHOLD = 1024;
+
+    private static final int LZ4_HEADER_LENGTH = 1 + Integer.BYTES;
+    private static final LZ4Compressor COMPRESSOR = LZ4Factory.fastestInstance().fastCompressor();
+    private static final LZ4FastDecompressor DECOMPRESSOR = LZ4Factory.fastestInstance().fastDecompressor();
+
+    @Override
+    public byte[] convertToDatabaseColumn(String text) {
+        if (text == null) {
+            return null;
+        }
+
+        byte[] utf8 = text.getBytes(StandardCharsets.UTF_8);
+        if (utf8.length >= COMPRESSION_THRESHOLD) {
+            byte[] compressed = new byte[LZ4_HEADER_LENGTH + COMPRESSOR.maxCompressedLength(utf8.length)];
+            compressed[0] = FORMAT_LZ4;
+            ByteBuffer.wrap(compressed, 1, Integer.BYTES).putInt(utf8.length);
+            int compressedLength = COMPRESSOR.compress(utf8, 0, utf8.length, compressed, LZ4_HEADER_LENGTH);
+            if (compressedLength < utf8.length) {
+                return Arrays.copyOf(compressed, LZ4_HEADER_LENGTH + compressedLength);
+            }
+        }
+
+        byte[] raw = new byte[utf8.length + 1];
+        raw[0] = FORMAT_RAW;
+        System.arraycopy(utf8, 0, raw, 1, utf8.length);
+        return raw;
+    }
+
+    @Override
+    public String convertToEntityAttribute(byte[] column) {
+        if (column == null) {
+            return null;
+        }
+
+        if (column.length == 0) {
+            throw new IllegalStateException("Compressed text is missing its format byte");
+        }
+
+        switch (column[0]) {
+            case FORMAT_RAW:
+                return new String(column, 1, column.length - 1, StandardCharsets.UTF_8);
+            case FORMAT_LZ4:
+                int length = ByteBuffer.wrap(column, 1, Integer.BYTES).getInt();
+                byte[] utf8 = new byte[length];
+                DECOMPRESSOR.decompress(column, LZ4_HEADER_LENGTH, utf8, 0, length);
+                return new String(utf8, StandardCharsets.UTF_8);
+            default:
+                throw new IllegalStateException("Unknown compressed text format " + column[0]);
+        }
+    }
+}
@@ -1,9 +1,11 @@
 package pl.docmanager.domain.page;
 
+import pl.docmanager.domain.compression.CompressedTextConverter;
 import pl.docmanager.domain.solution.Solution;
 import pl.docmanager.domain.user.User;
 
 import javax.persistence.Column;
+import javax.persistence.Convert;
 import javax.persistence.Entity;
 import javax.persistence.Enumerated;
 import javax.persistence.GeneratedValue;
@@ -12,6 +14,7 @@ import javax.persistence.Id;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import javax.persistence.Table;
+import javax.persistence.Version;
 import java.time.LocalDateTime;
 
 @Entity
@@ -33,7 +36,8 @@ public class Page {
     @Column(name = "name", length = 256, nullable = false)
     private String name;
 
-    @Column(name = "content", nullable = false)
+    @Convert(converter = CompressedTextConverter.class)
+    @Column(name = "content", nullable = false, length = Integer.MAX_VALUE)
     private String content;
 
     @Column(name = "createdate", nullable = false)
@@ -46,6 +50,10 @@ public class Page {
     @Column(name = "state", nullable = false)
     private PageState state;
 
+    @Version
+    @Column(name = "version", nullable = false)
+    private long version;
+
     public long getId() {
         return id;
     }
@@ -110,4 +118,12 @@ public class Page {
         this.state = state;
     }
 
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
 }
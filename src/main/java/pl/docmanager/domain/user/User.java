@@ -5,6 +5,7 @@ import pl.docmanager.domain.solution.Solution;
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.Enumerated;
+import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
@@ -38,11 +39,12 @@ public class User {
     @Column(name = "state")
     private UserState state;
 
-    @ManyToOne
+    // a user is loaded as the author of every page and category, these are only followed when managing users
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "createdby")
     private User createdBy;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "usertype")
     private UserType userType;
 
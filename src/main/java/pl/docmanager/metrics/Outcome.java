@@ -0,0 +1,65 @@
+package pl.docmanager.metrics;
+
+import io.micrometer.core.instrument.Tag;
+import org.springframework.dao.OptimisticLockingFailureException;
+import pl.docmanager.dao.exception.EntityValidationException;
+import pl.docmanager.dao.exception.VersionConflictException;
+import pl.docmanager.web.security.AccessValidationException;
+
+import java.util.NoSuchElementException;
+
+public enum Outcome {
+    SUCCESS, INVALID, NOT_FOUND, ACCESS_DENIED, CONFLICT, CLIENT_ERROR, SERVER_ERROR;
+
+    private final Tag tag = Tag.of("outcome", name().toLowerCase());
+
+    public Tag asTag() {
+        return tag;
+    }
+
+    public static Outcome of(Throwable exception) {
+        if (exception == null) {
+            return SUCCESS;
+        }
+
+        if (exception instanceof EntityValidationException) {
+            return INVALID;
+        }
+
+        if (exception instanceof NoSuchElementException) {
+            return NOT_FOUND;
+        }
+
+        if (exception instanceof AccessValidationException) {
+            return ACCESS_DENIED;
+        }
+
+        if (exception instanceof VersionConflictException || exception instanceof OptimisticLockingFailureException) {
+            return CONFLICT;
+        }
+
+        if (exception instanceof IllegalArgumentException) {
+            return CLIENT_ERROR;
+        }
+        return SERVER_ERROR;
+    }
+
+    public static Outcome of(Throwable exception, int status) {
+        if (exception != null) {
+            return of(exception);
+        }
+
+        if (status >= 500) {
+            return SERVER_ERROR;
+        }
+
+        if (status == 404) {
+            return NOT_FOUND;
+        }
+
+        if (status >= 400) {
+            return CLIENT_ERROR;
+        }
+        return SUCCESS;
+    }
+}
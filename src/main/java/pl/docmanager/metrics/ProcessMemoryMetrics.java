@@ -0,0 +1,60 @@
+package pl.docmanager.metrics;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+/**
+ * Resident set size of the process as {@code process.memory.rss}, read from {@code /proc/self/status}. It covers
+ * what the JVM memory metrics do not, the JIT's code, thread stacks and direct buffers among them. Not registered
+ * where there is no procfs.
+ */
+@Component
+public class ProcessMemoryMetrics implements MeterBinder {
+
+    private static final String RSS_PREFIX = "VmRSS:";
+
+    private final Path status;
+
+    public ProcessMemoryMetrics() {
+        this(Paths.get("/proc/self/status"));
+    }
+
+    ProcessMemoryMetrics(Path status) {
+        this.status = status;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        if (!Files.isReadable(status)) {
+            return;
+        }
+        Gauge.builder("process.memory.rss", this, ProcessMemoryMetrics::residentBytes)
+                .baseUnit("bytes")
+                .description("Resident set size of the process")
+                .register(registry);
+    }
+
+    double residentBytes() {
+        try {
+            List<String> lines = Files.readAllLines(status);
+            for (String line : lines) {
+                if (line.startsWith(RSS_PREFIX)) {
+                    // "VmRSS:    123456 kB"
+                    String kilobytes = line.substring(RSS_PREFIX.length()).trim().split("\\s+")[0];
+                    return Long.parseLong(kilobytes) * 1024d;
+                }
+            }
+        } catch (IOException | NumberFormatException e) {
+            return Double.NaN;
+        }
+        return Double.NaN;
+    }
+}
@@ -0,0 +1,30 @@
+package pl.docmanager.metrics;
+
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.boot.actuate.metrics.web.servlet.DefaultWebMvcTagsProvider;
+import org.springframework.boot.actuate.metrics.web.servlet.WebMvcTags;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+@Component
+public class RequestMetricsTagsProvider extends DefaultWebMvcTagsProvider {
+
+    // set by RestControllerBase, exceptions handled by @ExceptionHandler methods are not visible to the metrics filter
+    public static final String HANDLED_EXCEPTION_ATTRIBUTE = RequestMetricsTagsProvider.class.getName() + ".exception";
+
+    @Override
+    public Iterable<Tag> getTags(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                 Throwable exception) {
+        Throwable handledException = exception != null ? exception :
+                (Throwable) request.getAttribute(HANDLED_EXCEPTION_ATTRIBUTE);
+
+        return Tags.of(WebMvcTags.method(request), WebMvcTags.uri(request, response),
+                WebMvcTags.exception(handledException), WebMvcTags.status(response),
+                Outcome.of(handledException, response.getStatus()).asTag(),
+                SolutionBuckets.of(request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE)));
+    }
+}
@@ -0,0 +1,50 @@
+package pl.docmanager.metrics;
+
+import io.micrometer.core.instrument.Tag;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+
+import static org.springframework.web.context.request.RequestAttributes.SCOPE_REQUEST;
+
+public final class SolutionBuckets {
+
+    // solution ids are folded into a fixed number of buckets to keep the number of time series bounded
+    private static final int BUCKETS = 16;
+    private static final String TAG_NAME = "solution.bucket";
+    private static final Tag NONE = Tag.of(TAG_NAME, "none");
+
+    private SolutionBuckets() { }
+
+    public static Tag of(long solutionId) {
+        return Tag.of(TAG_NAME, String.valueOf(Math.floorMod(solutionId, BUCKETS)));
+    }
+
+    public static Tag ofCurrentRequest() {
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (requestAttributes == null) {
+            return NONE;
+        }
+        return of(requestAttributes.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE, SCOPE_REQUEST));
+    }
+
+    @SuppressWarnings("unchecked")
+    public static Tag of(Object uriTemplateVariables) {
+        if (!(uriTemplateVariables instanceof Map)) {
+            return NONE;
+        }
+
+        Object solutionId = ((Map<String, String>) uriTemplateVariables).get("solutionId");
+        if (solutionId == null) {
+            return NONE;
+        }
+
+        try {
+            return of(Long.parseLong(solutionId.toString()));
+        } catch (NumberFormatException e) {
+            return NONE;
+        }
+    }
+}
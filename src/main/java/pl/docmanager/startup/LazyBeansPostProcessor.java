@@ -0,0 +1,46 @@
+package pl.docmanager.startup;
+
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Marks the application's own beans, the ones declared by classes in {@code pl.docmanager}, as lazy, so that the
+ * controllers, services, DAOs and caches are created by the first request that needs them instead of on start.
+ * Framework beans, the entity manager factory and the repositories among them, are still created on start and
+ * fail it when the database is unreachable. Beans listed in {@code eagerBeans} are left as they are.
+ */
+public class LazyBeansPostProcessor implements BeanFactoryPostProcessor {
+
+    private static final String APPLICATION_PACKAGE = "pl.docmanager.";
+
+    private final Set<String> eagerBeans;
+
+    public LazyBeansPostProcessor(String... eagerBeans) {
+        this.eagerBeans = new HashSet<>(Arrays.asList(eagerBeans));
+    }
+
+    @Override
+    public void postProcessBeanFactory(ConfigurableListableBeanFactory beanFactory) {
+        for (String beanName : beanFactory.getBeanDefinitionNames()) {
+            BeanDefinition definition = beanFactory.getBeanDefinition(beanName);
+            if (!eagerBeans.contains(beanName) && definition.getRole() == BeanDefinition.ROLE_APPLICATION
+                    && isApplicationBean(beanFactory, definition)) {
+                definition.setLazyInit(true);
+            }
+        }
+    }
+
+    private boolean isApplicationBean(ConfigurableListableBeanFactory beanFactory, BeanDefinition definition) {
+        String className = definition.getBeanClassName();
+        if (className == null && definition.getFactoryBeanName() != null
+                && beanFactory.containsBeanDefinition(definition.getFactoryBeanName())) {
+            className = beanFactory.getBeanDefinition(definition.getFactoryBeanName()).getBeanClassName();
+        }
+        return className != null && className.startsWith(APPLICATION_PACKAGE);
+    }
+}
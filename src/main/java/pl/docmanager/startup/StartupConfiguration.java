@@ -0,0 +1,40 @@
+package pl.docmanager.startup;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * Start-up tuning, used by the "faststart" profile. {@code docmanager.startup.lazy-beans=true} defers the creation
+ * of the application's beans to their first use, see {@link LazyBeansPostProcessor}.
+ * <p>
+ * {@code docmanager.startup.exit-when-ready=true} stops the application as soon as it has started, the build uses it
+ * to record the classes loaded on start into an AppCDS archive.
+ */
+@Configuration
+public class StartupConfiguration {
+
+    private static final Logger log = LogManager.getLogger(StartupConfiguration.class);
+
+    @Bean
+    @ConditionalOnProperty(name = "docmanager.startup.lazy-beans", havingValue = "true")
+    public static LazyBeansPostProcessor lazyBeansPostProcessor(Environment environment) {
+        return new LazyBeansPostProcessor(
+                environment.getProperty("docmanager.startup.eager-beans", String[].class, new String[0]));
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "docmanager.startup.exit-when-ready", havingValue = "true")
+    public ApplicationListener<ApplicationReadyEvent> exitWhenReady() {
+        return event -> {
+            log.info("Started, exiting as docmanager.startup.exit-when-ready is set");
+            System.exit(SpringApplication.exit(event.getApplicationContext()));
+        };
+    }
+}
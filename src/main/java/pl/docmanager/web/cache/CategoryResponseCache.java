@@ -0,0 +1,25 @@
+package pl.docmanager.web.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import pl.docmanager.web.response.CategoryResponse;
+
+@Service
+public class CategoryResponseCache extends ResponseCache<CategoryResponse> {
+
+    @Autowired
+    public CategoryResponseCache(ObjectMapper objectMapper,
+                                 @Value("${docmanager.cache.categories.max-entries:1000}") int maxEntries,
+                                 @Value("${docmanager.cache.categories.ttl-seconds:60}") long ttlSeconds,
+                                 @Value("${server.compression.min-response-size:2048}") int compressionThreshold,
+                                 InvalidationBus invalidationBus) {
+        super(objectMapper, CategoryResponse::getVersion, maxEntries, ttlSeconds * 1000, compressionThreshold);
+        publishEvictionsTo(invalidationBus, "categories");
+    }
+
+    public static String key(long solutionId, String url) {
+        return solutionId + "/" + url;
+    }
+}
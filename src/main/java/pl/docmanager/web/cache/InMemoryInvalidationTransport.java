@@ -0,0 +1,26 @@
+package pl.docmanager.web.cache;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Delivers invalidations synchronously within one JVM, for tests and single-node runs against H2.
+ */
+public class InMemoryInvalidationTransport implements InvalidationTransport {
+
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(String payload) {
+        listeners.forEach(listener -> listener.onMessage(payload));
+    }
+
+    @Override
+    public void subscribe(Listener listener) {
+        listeners.add(listener);
+    }
+
+    public void reset() {
+        listeners.forEach(Listener::onReset);
+    }
+}
@@ -0,0 +1,90 @@
+package pl.docmanager.web.cache;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Evicts keys written on one node from the response caches of all the other nodes.
+ * <p>
+ * Each node numbers its messages. A receiver that sees a number other than the next one from a node, or whose
+ * transport may have dropped messages, clears all of its caches: it cannot tell which keys it missed.
+ */
+@Service
+public class InvalidationBus implements InvalidationTransport.Listener {
+
+    private static final Logger log = LogManager.getLogger(InvalidationBus.class);
+
+    private final InvalidationTransport transport;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<String, ResponseCache<?>> caches = new ConcurrentHashMap<>();
+    private final Map<String, Long> lastSequences = new ConcurrentHashMap<>();
+    private final Lock publishLock = new ReentrantLock();
+
+    private long sequence;
+
+    @Autowired
+    public InvalidationBus(InvalidationTransport transport) {
+        this.transport = transport;
+        transport.subscribe(this);
+    }
+
+    public void register(String name, ResponseCache<?> cache) {
+        caches.put(name, cache);
+    }
+
+    public void publish(String cache, String key) {
+        // numbers are sent in order, a message sent before a smaller number would look like a gap. The transport only
+        // queues the message, nothing waits for a connection while the lock is held
+        publishLock.lock();
+        try {
+            transport.publish(new InvalidationMessage(nodeId, ++sequence, cache, key).format());
+        } finally {
+            publishLock.unlock();
+        }
+    }
+
+    @Override
+    public void onMessage(String payload) {
+        InvalidationMessage message;
+        try {
+            message = InvalidationMessage.parse(payload);
+        } catch (IllegalArgumentException e) {
+            log.warn("Ignoring malformed cache invalidation {}", payload);
+            return;
+        }
+        if (message.getOrigin().equals(nodeId)) {
+            return;
+        }
+
+        Long previous = lastSequences.put(message.getOrigin(), message.getSequence());
+        if (previous != null && message.getSequence() != previous + 1) {
+            log.warn("Cache invalidations from node {} skipped from {} to {}, clearing all caches",
+                    message.getOrigin(), previous, message.getSequence());
+            clearAll();
+            return;
+        }
+
+        ResponseCache<?> cache = caches.get(message.getCache());
+        if (cache != null) {
+            cache.evict(message.getKey());
+        }
+    }
+
+    @Override
+    public void onReset() {
+        lastSequences.clear();
+        clearAll();
+    }
+
+    private void clearAll() {
+        caches.values().forEach(ResponseCache::clear);
+    }
+}
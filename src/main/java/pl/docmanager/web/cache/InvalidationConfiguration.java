@@ -0,0 +1,28 @@
+package pl.docmanager.web.cache;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class InvalidationConfiguration {
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    @ConditionalOnProperty(name = "docmanager.cache.invalidation.transport", havingValue = "postgres",
+            matchIfMissing = true)
+    public PostgresInvalidationTransport postgresInvalidationTransport(
+            DataSourceProperties properties,
+            @Value("${docmanager.cache.invalidation.poll-millis:500}") int pollMillis,
+            @Value("${docmanager.cache.invalidation.retry-millis:5000}") long retryMillis) {
+        return new PostgresInvalidationTransport(properties.determineUrl(), properties.determineUsername(),
+                properties.determinePassword(), pollMillis, retryMillis);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "docmanager.cache.invalidation.transport", havingValue = "memory")
+    public InMemoryInvalidationTransport inMemoryInvalidationTransport() {
+        return new InMemoryInvalidationTransport();
+    }
+}
@@ -0,0 +1,48 @@
+package pl.docmanager.web.cache;
+
+/**
+ * Invalidation of one cache key, sent as {@code origin:sequence:cache:key}. The sequence numbers of a node's
+ * messages increase by one, a receiver seeing a gap knows it missed some.
+ */
+public class InvalidationMessage {
+
+    private final String origin;
+    private final long sequence;
+    private final String cache;
+    private final String key;
+
+    public InvalidationMessage(String origin, long sequence, String cache, String key) {
+        this.origin = origin;
+        this.sequence = sequence;
+        this.cache = cache;
+        this.key = key;
+    }
+
+    public static InvalidationMessage parse(String payload) {
+        String[] parts = payload.split(":", 4);
+        if (parts.length != 4) {
+            throw new IllegalArgumentException("Malformed cache invalidation: " + payload);
+        }
+        return new InvalidationMessage(parts[0], Long.parseLong(parts[1]), parts[2], parts[3]);
+    }
+
+    public String format() {
+        return origin + ":" + sequence + ":" + cache + ":" + key;
+    }
+
+    public String getOrigin() {
+        return origin;
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    public String getCache() {
+        return cache;
+    }
+
+    public String getKey() {
+        return key;
+    }
+}
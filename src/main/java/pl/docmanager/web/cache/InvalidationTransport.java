@@ -0,0 +1,22 @@
+package pl.docmanager.web.cache;
+
+/**
+ * Carries cache invalidations between the nodes of a deployment. Every message published by a node is delivered to
+ * the listeners of every node, including its own.
+ */
+public interface InvalidationTransport {
+
+    void publish(String payload);
+
+    void subscribe(Listener listener);
+
+    interface Listener {
+
+        void onMessage(String payload);
+
+        /**
+         * Messages may have been lost, e.g. while the transport was reconnecting.
+         */
+        void onReset();
+    }
+}
@@ -0,0 +1,175 @@
+package pl.docmanager.web.cache;
+
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Second tier of a {@link ResponseCache}: serialized responses kept in direct buffers outside the Java heap, so a
+ * working set of several GB of page content is neither traced nor copied by the garbage collector.
+ * <p>
+ * The memory is allocated once, in chunks split into fixed-size blocks. An entry takes as many blocks as its bytes
+ * need and the least recently used entries are dropped when there are not enough free blocks. Reads copy the bytes
+ * back to the heap. Not thread-safe, the owning cache guards it with its lock.
+ */
+class OffHeapResponseStore {
+
+    static final int BLOCK_SIZE = 4096;
+    private static final int BLOCKS_PER_CHUNK = 16384;
+
+    private final ByteBuffer[] chunks;
+    private final int totalBlocks;
+    private final int[] freeBlocks;
+    private final Map<String, Slot> slots = new LinkedHashMap<>(16, 0.75f, true);
+
+    private int freeCount;
+    private long usedBytes;
+
+    OffHeapResponseStore(long capacityBytes) {
+        long blocks = capacityBytes / BLOCK_SIZE;
+        if (blocks < 1 || blocks > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Off-heap capacity must be between " + BLOCK_SIZE + " bytes and " +
+                    (long) Integer.MAX_VALUE * BLOCK_SIZE + " bytes, got " + capacityBytes);
+        }
+        totalBlocks = (int) blocks;
+        chunks = new ByteBuffer[(totalBlocks + BLOCKS_PER_CHUNK - 1) / BLOCKS_PER_CHUNK];
+        for (int i = 0; i < chunks.length; i++) {
+            int chunkBlocks = Math.min(BLOCKS_PER_CHUNK, totalBlocks - i * BLOCKS_PER_CHUNK);
+            chunks[i] = ByteBuffer.allocateDirect(chunkBlocks * BLOCK_SIZE);
+        }
+
+        freeBlocks = new int[totalBlocks];
+        for (int i = 0; i < totalBlocks; i++) {
+            freeBlocks[i] = totalBlocks - 1 - i;
+        }
+        freeCount = totalBlocks;
+    }
+
+    boolean put(String key, SerializedResponse response, long expiresAt) {
+        remove(key);
+        byte[] gzipJson = response.getGzipJson();
+        long length = response.getJson().length + (gzipJson == null ? 0L : gzipJson.length);
+        long needed = (length + BLOCK_SIZE - 1) / BLOCK_SIZE;
+        if (needed > totalBlocks) {
+            return false;
+        }
+        while (freeCount < needed) {
+            Iterator<Map.Entry<String, Slot>> eldest = slots.entrySet().iterator();
+            release(eldest.next().getValue());
+            eldest.remove();
+        }
+
+        int[] blocks = new int[(int) needed];
+        for (int i = 0; i < blocks.length; i++) {
+            blocks[i] = freeBlocks[--freeCount];
+        }
+        Slot slot = new Slot(blocks, response.getJson().length, gzipJson == null ? -1 : gzipJson.length,
+                response.getVersion(), expiresAt);
+        write(slot, 0, response.getJson());
+        if (gzipJson != null) {
+            write(slot, response.getJson().length, gzipJson);
+        }
+        slots.put(key, slot);
+        usedBytes += length;
+        return true;
+    }
+
+    SerializedResponse get(String key, long now) {
+        Slot slot = slots.get(key);
+        if (slot == null) {
+            return null;
+        }
+        if (slot.expiresAt <= now) {
+            remove(key);
+            return null;
+        }
+
+        byte[] json = new byte[slot.jsonLength];
+        read(slot, 0, json);
+        byte[] gzipJson = null;
+        if (slot.gzipLength >= 0) {
+            gzipJson = new byte[slot.gzipLength];
+            read(slot, slot.jsonLength, gzipJson);
+        }
+        return new SerializedResponse(json, gzipJson, slot.version);
+    }
+
+    long expiresAt(String key) {
+        Slot slot = slots.get(key);
+        return slot == null ? 0 : slot.expiresAt;
+    }
+
+    void remove(String key) {
+        Slot slot = slots.remove(key);
+        if (slot != null) {
+            release(slot);
+        }
+    }
+
+    void clear() {
+        slots.values().forEach(this::release);
+        slots.clear();
+    }
+
+    int size() {
+        return slots.size();
+    }
+
+    long usedBytes() {
+        return usedBytes;
+    }
+
+    private void release(Slot slot) {
+        for (int block : slot.blocks) {
+            freeBlocks[freeCount++] = block;
+        }
+        usedBytes -= slot.jsonLength + Math.max(slot.gzipLength, 0);
+    }
+
+    private void write(Slot slot, int offset, byte[] bytes) {
+        int written = 0;
+        while (written < bytes.length) {
+            int position = offset + written;
+            ByteBuffer block = block(slot.blocks[position / BLOCK_SIZE], position % BLOCK_SIZE);
+            int length = Math.min(block.remaining(), bytes.length - written);
+            block.put(bytes, written, length);
+            written += length;
+        }
+    }
+
+    private void read(Slot slot, int offset, byte[] bytes) {
+        int read = 0;
+        while (read < bytes.length) {
+            int position = offset + read;
+            ByteBuffer block = block(slot.blocks[position / BLOCK_SIZE], position % BLOCK_SIZE);
+            int length = Math.min(block.remaining(), bytes.length - read);
+            block.get(bytes, read, length);
+            read += length;
+        }
+    }
+
+    // a view of the rest of the block from the given offset, positions of the shared chunks are never moved
+    private ByteBuffer block(int block, int offset) {
+        ByteBuffer view = chunks[block / BLOCKS_PER_CHUNK].duplicate();
+        int start = (block % BLOCKS_PER_CHUNK) * BLOCK_SIZE;
+        view.limit(start + BLOCK_SIZE).position(start + offset);
+        return view;
+    }
+
+    private static class Slot {
+        private final int[] blocks;
+        private final int jsonLength;
+        private final int gzipLength;
+        private final long version;
+        private final long expiresAt;
+
+        private Slot(int[] blocks, int jsonLength, int gzipLength, long version, long expiresAt) {
+            this.blocks = blocks;
+            this.jsonLength = jsonLength;
+            this.gzipLength = gzipLength;
+            this.version = version;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package pl.docmanager.web.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import pl.docmanager.web.response.PageResponse;
+
+@Service
+public class PageResponseCache extends ResponseCache<PageResponse> {
+
+    @Autowired
+    public PageResponseCache(ObjectMapper objectMapper,
+                             @Value("${docmanager.cache.pages.max-entries:1000}") int maxEntries,
+                             @Value("${docmanager.cache.pages.ttl-seconds:60}") long ttlSeconds,
+                             @Value("${server.compression.min-response-size:2048}") int compressionThreshold,
+                             @Value("${docmanager.cache.pages.off-heap-bytes:0}") long offHeapBytes,
+                             InvalidationBus invalidationBus) {
+        super(objectMapper, PageResponse::getVersion, maxEntries, ttlSeconds * 1000, compressionThreshold,
+                offHeapBytes);
+        publishEvictionsTo(invalidationBus, "pages");
+    }
+
+    public static String key(long solutionId, String url) {
+        return solutionId + "/" + url;
+    }
+}
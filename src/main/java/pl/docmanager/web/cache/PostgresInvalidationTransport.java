@@ -0,0 +1,154 @@
+package pl.docmanager.web.cache;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingDeque;
+
+/**
+ * Publishes invalidations with Postgres NOTIFY and receives them with LISTEN, each on a dedicated connection opened
+ * outside the pool because it is held for the lifetime of the node.
+ * <p>
+ * Publishing only queues the message, a single sender thread sends the queue in order and retries the message at its
+ * head until it is sent. Callers, which publish after a commit while still holding their own pooled connection, never
+ * wait for a connection, and a message is never lost to a failed send.
+ * <p>
+ * Notifications sent while the listening connection is down are lost, so listeners are reset every time it is
+ * (re)established.
+ */
+public class PostgresInvalidationTransport implements InvalidationTransport {
+
+    private static final Logger log = LogManager.getLogger(PostgresInvalidationTransport.class);
+
+    static final String CHANNEL = "docmanager_cache_invalidation";
+
+    private final String url;
+    private final String username;
+    private final String password;
+    private final int pollMillis;
+    private final long retryMillis;
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+    private final BlockingDeque<String> outgoing = new LinkedBlockingDeque<>();
+
+    private volatile boolean running;
+    private Thread listenerThread;
+    private Thread senderThread;
+
+    public PostgresInvalidationTransport(String url, String username, String password, int pollMillis,
+                                         long retryMillis) {
+        this.url = url;
+        this.username = username;
+        this.password = password;
+        this.pollMillis = pollMillis;
+        this.retryMillis = retryMillis;
+    }
+
+    @Override
+    public void publish(String payload) {
+        outgoing.add(payload);
+    }
+
+    @Override
+    public void subscribe(Listener listener) {
+        listeners.add(listener);
+    }
+
+    public void start() {
+        running = true;
+        listenerThread = new Thread(this::listen, "cache-invalidation-listener");
+        listenerThread.setDaemon(true);
+        listenerThread.start();
+        senderThread = new Thread(this::send, "cache-invalidation-sender");
+        senderThread.setDaemon(true);
+        senderThread.start();
+    }
+
+    public void stop() {
+        running = false;
+        listenerThread.interrupt();
+        senderThread.interrupt();
+    }
+
+    private void send() {
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(url, username, password);
+                 PreparedStatement statement = connection.prepareStatement("select pg_notify(?, ?)")) {
+                statement.setString(1, CHANNEL);
+                while (running) {
+                    String payload = outgoing.take();
+                    statement.setString(2, payload);
+                    try {
+                        statement.execute();
+                    } catch (SQLException e) {
+                        // sent again on the next connection, the messages behind it must not overtake it
+                        outgoing.addFirst(payload);
+                        throw e;
+                    }
+                }
+            } catch (SQLException e) {
+                if (running) {
+                    log.warn("Cache invalidation sender disconnected, reconnecting in {} ms", retryMillis, e);
+                    sleep(retryMillis);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void listen() {
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(url, username, password)) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL);
+                }
+                listeners.forEach(Listener::onReset);
+
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(pollMillis);
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            deliver(notification.getParameter());
+                        }
+                    }
+                }
+            } catch (SQLException e) {
+                if (running) {
+                    log.warn("Cache invalidation listener disconnected, reconnecting in {} ms", retryMillis, e);
+                    sleep(retryMillis);
+                }
+            }
+        }
+    }
+
+    private void deliver(String payload) {
+        for (Listener listener : listeners) {
+            try {
+                listener.onMessage(payload);
+            } catch (RuntimeException e) {
+                log.error("Cannot apply cache invalidation {}", payload, e);
+            }
+        }
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+}
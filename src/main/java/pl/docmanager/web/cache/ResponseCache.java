@@ -0,0 +1,232 @@
+package pl.docmanager.web.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Bounded LRU cache of serialized JSON responses, gzip-compressed once when they are put.
+ * <p>
+ * Evictions made while a value was being loaded prevent that value from being cached, it could predate the write
+ * that caused the eviction. Entries also expire after a while, reads served by a lagging replica can still be stale.
+ * <p>
+ * With an off-heap capacity, entries dropped from the on-heap LRU move to an {@link OffHeapResponseStore} instead of
+ * being discarded, and misses look there before loading. Entries found there move back to the on-heap LRU.
+ * <p>
+ * With an {@link InvalidationBus} the evictions made after commit are published to the other nodes.
+ * <p>
+ * Concurrent misses for the same key share one load through {@link SingleFlight}, so a popular entry dropped by an
+ * edit is read from the database once rather than once per waiting reader. Callers missing after an eviction do not
+ * join a load that started before it.
+ * <p>
+ * The entries are guarded by a {@link Lock} rather than a monitor, a virtual thread waiting for it releases its
+ * carrier thread.
+ */
+public class ResponseCache<T> {
+
+    private final ObjectMapper objectMapper;
+    private final Function<T, Long> versionOf;
+    private final int maxEntries;
+    private final long ttlMillis;
+    private final int compressionThreshold;
+    private final Map<String, Entry> entries;
+    private final Lock lock = new ReentrantLock();
+    private final SingleFlight<String, SerializedResponse> loads = new SingleFlight<>();
+    private final OffHeapResponseStore offHeap;
+
+    private volatile InvalidationBus invalidationBus;
+    private volatile String name;
+
+    private long evictions;
+
+    public ResponseCache(ObjectMapper objectMapper, Function<T, Long> versionOf, int maxEntries, long ttlMillis,
+                         int compressionThreshold) {
+        this(objectMapper, versionOf, maxEntries, ttlMillis, compressionThreshold, 0);
+    }
+
+    public ResponseCache(ObjectMapper objectMapper, Function<T, Long> versionOf, int maxEntries, long ttlMillis,
+                         int compressionThreshold, long offHeapBytes) {
+        this.objectMapper = objectMapper;
+        this.versionOf = versionOf;
+        this.maxEntries = maxEntries;
+        this.ttlMillis = ttlMillis;
+        this.compressionThreshold = compressionThreshold;
+        this.offHeap = offHeapBytes > 0 ? new OffHeapResponseStore(offHeapBytes) : null;
+        this.entries = new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                if (size() <= ResponseCache.this.maxEntries) {
+                    return false;
+                }
+                if (offHeap != null && eldest.getValue().expiresAt > System.currentTimeMillis()) {
+                    offHeap.put(eldest.getKey(), eldest.getValue().response, eldest.getValue().expiresAt);
+                }
+                return true;
+            }
+        };
+    }
+
+    public SerializedResponse get(String key, Supplier<T> loader) {
+        lock.lock();
+        try {
+            SerializedResponse cached = cached(key);
+            if (cached != null) {
+                return cached;
+            }
+        } finally {
+            lock.unlock();
+        }
+        return loads.load(key, () -> load(key, loader));
+    }
+
+    public void evict(String key) {
+        lock.lock();
+        try {
+            entries.remove(key);
+            if (offHeap != null) {
+                offHeap.remove(key);
+            }
+            evictions++;
+        } finally {
+            lock.unlock();
+        }
+        loads.forget(key);
+    }
+
+    public void evictAfterCommit(String key) {
+        evict(key);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // a reader that loads the old value before the commit must not keep it cached after the commit
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+                @Override
+                public void afterCommit() {
+                    evict(key);
+                    publishEviction(key);
+                }
+            });
+        } else {
+            publishEviction(key);
+        }
+    }
+
+    public void publishEvictionsTo(InvalidationBus invalidationBus, String name) {
+        this.name = name;
+        this.invalidationBus = invalidationBus;
+        invalidationBus.register(name, this);
+    }
+
+    public void clear() {
+        lock.lock();
+        try {
+            entries.clear();
+            if (offHeap != null) {
+                offHeap.clear();
+            }
+            evictions++;
+        } finally {
+            lock.unlock();
+        }
+        loads.forgetAll();
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int offHeapSize() {
+        lock.lock();
+        try {
+            return offHeap == null ? 0 : offHeap.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private SerializedResponse load(String key, Supplier<T> loader) {
+        long evictionsBeforeLoad;
+        lock.lock();
+        try {
+            // the load this caller missed may have cached the value just before this one started
+            SerializedResponse cached = cached(key);
+            if (cached != null) {
+                return cached;
+            }
+            evictionsBeforeLoad = evictions;
+        } finally {
+            lock.unlock();
+        }
+
+        T value = loader.get();
+        SerializedResponse response = SerializedResponse.of(serialize(value), versionOf.apply(value),
+                compressionThreshold);
+
+        lock.lock();
+        try {
+            if (evictions == evictionsBeforeLoad && maxEntries > 0) {
+                if (offHeap != null) {
+                    offHeap.remove(key);
+                }
+                entries.put(key, new Entry(response, System.currentTimeMillis() + ttlMillis));
+            }
+        } finally {
+            lock.unlock();
+        }
+        return response;
+    }
+
+    private void publishEviction(String key) {
+        if (invalidationBus != null) {
+            invalidationBus.publish(name, key);
+        }
+    }
+
+    private SerializedResponse cached(String key) {
+        long now = System.currentTimeMillis();
+        Entry entry = entries.get(key);
+        if (entry != null && entry.expiresAt > now) {
+            return entry.response;
+        }
+        if (offHeap == null) {
+            return null;
+        }
+        SerializedResponse response = offHeap.get(key, now);
+        if (response != null) {
+            // back to the heap, the blocks it frees take the entry it displaces from the LRU
+            long expiresAt = offHeap.expiresAt(key);
+            offHeap.remove(key);
+            entries.put(key, new Entry(response, expiresAt));
+        }
+        return response;
+    }
+
+    private byte[] serialize(T value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize " + value.getClass().getSimpleName(), e);
+        }
+    }
+
+    private static class Entry {
+        private final SerializedResponse response;
+        private final long expiresAt;
+
+        private Entry(SerializedResponse response, long expiresAt) {
+            this.response = response;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
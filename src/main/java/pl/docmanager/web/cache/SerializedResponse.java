@@ -0,0 +1,50 @@
+package pl.docmanager.web.cache;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPOutputStream;
+
+public class SerializedResponse {
+
+    private final byte[] json;
+    private final byte[] gzipJson;
+    private final long version;
+
+    public SerializedResponse(byte[] json, byte[] gzipJson, long version) {
+        this.json = json;
+        this.gzipJson = gzipJson;
+        this.version = version;
+    }
+
+    public static SerializedResponse of(byte[] json, long version, int compressionThreshold) {
+        if (json.length < compressionThreshold) {
+            return new SerializedResponse(json, null, version);
+        }
+
+        byte[] gzipJson = gzip(json);
+        return new SerializedResponse(json, gzipJson.length < json.length ? gzipJson : null, version);
+    }
+
+    public byte[] getJson() {
+        return json;
+    }
+
+    public byte[] getGzipJson() {
+        return gzipJson;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    private static byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(bytes.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return compressed.toByteArray();
+    }
+}
@@ -6,10 +6,11 @@ import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RestController;
-import pl.docmanager.domain.category.CategoryItem;
+import pl.docmanager.web.response.CategoryItemResponse;
 import pl.docmanager.web.service.category.CategoryItemService;
 
 import java.util.List;
+import java.util.stream.Collectors;
 
 @RestController
 public class CategoryItemRestController extends RestControllerBase {
@@ -22,8 +23,10 @@ public class CategoryItemRestController extends RestControllerBase {
     }
 
     @RequestMapping(method = RequestMethod.GET, path = "/api/category_items/category/{categoryId}")
-    public List<CategoryItem> getAllCategoryItemsByCategoryId(@PathVariable("categoryId") long categoryId,
-                                                              @RequestHeader("apiToken") String apiToken) {
-        return categoryItemService.getAllByCategoryId(categoryId, apiToken);
+    public List<CategoryItemResponse> getAllCategoryItemsByCategoryId(@PathVariable("categoryId") long categoryId,
+                                                                      @RequestHeader("apiToken") String apiToken) {
+        return categoryItemService.getAllByCategoryId(categoryId, apiToken).stream()
+                .map(CategoryItemResponse::new)
+                .collect(Collectors.toList());
     }
 }
@@ -1,17 +1,25 @@
 package pl.docmanager.web.controllers;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import pl.docmanager.dao.category.CategoryPatch;
+import pl.docmanager.dao.exception.EntityValidationException;
+import pl.docmanager.dao.patch.PatchResult;
 import pl.docmanager.domain.category.Category;
+import pl.docmanager.web.response.BatchItem;
+import pl.docmanager.web.response.CategoryResponse;
 import pl.docmanager.web.service.category.CategoryService;
 
-import java.util.Map;
+import java.util.List;
 
 @RestController
 public class CategoryRestController extends RestControllerBase {
@@ -24,10 +32,23 @@ public class CategoryRestController extends RestControllerBase {
     }
 
     @GetMapping("/api/categories/solution/{solutionId}/url/{url}")
-    public Category getCategoryByUrl(@PathVariable("solutionId") long solutionId,
-                                     @PathVariable("url") String url,
-                                     @RequestHeader("apiToken") String apiToken) {
-        return categoryService.getCategoryByUrl(url, solutionId, apiToken);
+    public ResponseEntity<byte[]> getCategoryByUrl(@PathVariable("solutionId") long solutionId,
+                                                   @PathVariable("url") String url,
+                                                   @RequestHeader("apiToken") String apiToken,
+                                                   @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false)
+                                                           String acceptEncoding) {
+        return serialized(categoryService.getSerializedCategoryByUrl(url, solutionId, apiToken), acceptEncoding);
+    }
+
+    @GetMapping("/api/categories/solution/{solutionId}/batch")
+    public List<BatchItem<CategoryResponse>> getCategories(@PathVariable("solutionId") long solutionId,
+                                                           @RequestParam(value = "url", required = false) List<String> urls,
+                                                           @RequestParam(value = "id", required = false) List<Long> ids,
+                                                           @RequestHeader("apiToken") String apiToken) {
+        if ((urls == null) == (ids == null)) {
+            throw new EntityValidationException("Exactly one of url or id parameters must be given");
+        }
+        return urls != null ? categoryService.getCategoriesByUrls(urls, solutionId, apiToken) : categoryService.getCategoriesByIds(ids, solutionId, apiToken);
     }
 
     @PostMapping("/api/categories")
@@ -36,10 +57,12 @@ public class CategoryRestController extends RestControllerBase {
     }
 
     @PatchMapping("/api/categories/solution/{solutionId}/url/{url}")
-    public void updateCategory(@RequestBody Map<String, Object> updatesMap,
-                               @PathVariable("solutionId") long solutionId,
-                               @PathVariable("url") String url,
-                               @RequestHeader("apiToken") String apiToken) {
-        categoryService.updateCategory(updatesMap, url, solutionId, apiToken);
+    public ResponseEntity<Void> updateCategory(@RequestBody CategoryPatch patch,
+                                               @PathVariable("solutionId") long solutionId,
+                                               @PathVariable("url") String url,
+                                               @RequestHeader("apiToken") String apiToken,
+                                               @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        PatchResult result = categoryService.updateCategory(patch, url, solutionId, expectedVersion(ifMatch), apiToken);
+        return withETag(null, result.getVersion());
     }
 }
@@ -1,18 +1,25 @@
 package pl.docmanager.web.controllers;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
-import pl.docmanager.domain.page.Page;
+import pl.docmanager.dao.exception.EntityValidationException;
+import pl.docmanager.dao.page.PagePatch;
+import pl.docmanager.dao.patch.PatchResult;
 import pl.docmanager.domain.page.wrapper.PageWithCategories;
+import pl.docmanager.web.response.BatchItem;
+import pl.docmanager.web.response.PageResponse;
 import pl.docmanager.web.service.page.PageService;
 
-import java.util.Map;
+import java.util.List;
 
 @RestController
 public class PageRestController extends RestControllerBase {
@@ -25,10 +32,23 @@ public class PageRestController extends RestControllerBase {
     }
 
     @GetMapping("/api/pages/solution/{solutionId}/url/{url}")
-    public Page getPageByUrl(@PathVariable("solutionId") long solutionId,
-                             @PathVariable("url") String url,
-                             @RequestHeader("apiToken") String apiToken) {
-        return pageService.getPageByUrl(url, solutionId, apiToken);
+    public ResponseEntity<byte[]> getPageByUrl(@PathVariable("solutionId") long solutionId,
+                                               @PathVariable("url") String url,
+                                               @RequestHeader("apiToken") String apiToken,
+                                               @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false)
+                                                       String acceptEncoding) {
+        return serialized(pageService.getSerializedPageByUrl(url, solutionId, apiToken), acceptEncoding);
+    }
+
+    @GetMapping("/api/pages/solution/{solutionId}/batch")
+    public List<BatchItem<PageResponse>> getPages(@PathVariable("solutionId") long solutionId,
+                                                  @RequestParam(value = "url", required = false) List<String> urls,
+                                                  @RequestParam(value = "id", required = false) List<Long> ids,
+                                                  @RequestHeader("apiToken") String apiToken) {
+        if ((urls == null) == (ids == null)) {
+            throw new EntityValidationException("Exactly one of url or id parameters must be given");
+        }
+        return urls != null ? pageService.getPagesByUrls(urls, solutionId, apiToken) : pageService.getPagesByIds(ids, solutionId, apiToken);
     }
 
     @PostMapping("/api/pages")
@@ -37,10 +57,12 @@ public class PageRestController extends RestControllerBase {
     }
 
     @PatchMapping("/api/pages/solution/{solutionId}/url/{url}")
-    public void updatePage(@RequestBody Map<String, Object> updatesMap,
-                           @PathVariable("solutionId") long solutionId,
-                           @PathVariable("url") String url,
-                           @RequestHeader("apiToken") String apiToken) {
-        pageService.updatePage(updatesMap, url, solutionId, apiToken);
+    public ResponseEntity<Void> updatePage(@RequestBody PagePatch patch,
+                                           @PathVariable("solutionId") long solutionId,
+                                           @PathVariable("url") String url,
+                                           @RequestHeader("apiToken") String apiToken,
+                                           @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        PatchResult result = pageService.updatePage(patch, url, solutionId, expectedVersion(ifMatch), apiToken);
+        return withETag(null, result.getVersion());
     }
 }
@@ -0,0 +1,27 @@
+package pl.docmanager.web.controllers;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+import pl.docmanager.web.response.PageViewResponse;
+import pl.docmanager.web.service.page.PageViewService;
+
+@RestController
+public class PageViewRestController extends RestControllerBase {
+
+    private PageViewService pageViewService;
+
+    @Autowired
+    public PageViewRestController(PageViewService pageViewService) {
+        this.pageViewService = pageViewService;
+    }
+
+    @GetMapping("/api/page_views/solution/{solutionId}/url/{url}")
+    public PageViewResponse getPageView(@PathVariable("solutionId") long solutionId,
+                                        @PathVariable("url") String url,
+                                        @RequestHeader("apiToken") String apiToken) {
+        return pageViewService.getPageView(url, solutionId, apiToken);
+    }
+}
@@ -1,24 +1,99 @@
 package pl.docmanager.web.controllers;
 
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import pl.docmanager.dao.exception.EntityValidationException;
+import pl.docmanager.dao.exception.VersionConflictException;
+import pl.docmanager.metrics.RequestMetricsTagsProvider;
+import pl.docmanager.web.cache.AcceptEncoding;
+import pl.docmanager.web.cache.SerializedResponse;
 import pl.docmanager.web.security.AccessValidationException;
+import pl.docmanager.web.service.page.PageViewTimeoutException;
 
+import javax.servlet.http.HttpServletRequest;
 import java.util.NoSuchElementException;
 
 public abstract class RestControllerBase {
 
+    // strong entity tags identify one representation, the gzip one gets its own
+    private static final String GZIP_ETAG_SUFFIX = "-gzip";
+
+    protected <T> ResponseEntity<T> withETag(T body, long version) {
+        return ResponseEntity.ok().eTag(String.valueOf(version)).body(body);
+    }
+
+    protected ResponseEntity<byte[]> serialized(SerializedResponse response, String acceptEncoding) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON_UTF8)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (response.getGzipJson() != null && AcceptEncoding.acceptsGzip(acceptEncoding)) {
+            return builder.eTag(response.getVersion() + GZIP_ETAG_SUFFIX)
+                    .header(HttpHeaders.CONTENT_ENCODING, "gzip").body(response.getGzipJson());
+        }
+        return builder.eTag(String.valueOf(response.getVersion())).body(response.getJson());
+    }
+
+    protected Long expectedVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.trim().equals("*")) {
+            return null;
+        }
+
+        String version = ifMatch.trim();
+        if (version.startsWith("W/")) {
+            // If-Match compares strongly, a weak validator never matches
+            throw new VersionConflictException("Weak entity tags do not match in If-Match: " + ifMatch);
+        }
+        if (version.length() >= 2 && version.startsWith("\"") && version.endsWith("\"")) {
+            version = version.substring(1, version.length() - 1);
+        }
+        if (version.endsWith(GZIP_ETAG_SUFFIX)) {
+            version = version.substring(0, version.length() - GZIP_ETAG_SUFFIX.length());
+        }
+
+        try {
+            return Long.parseLong(version);
+        } catch (NumberFormatException e) {
+            throw new EntityValidationException("Malformed If-Match header: " + ifMatch);
+        }
+    }
+
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     @ExceptionHandler(EntityValidationException.class)
-    protected String return400(Exception e) {
+    protected String return400(Exception e, HttpServletRequest request) {
+        request.setAttribute(RequestMetricsTagsProvider.HANDLED_EXCEPTION_ATTRIBUTE, e);
+        return e.getMessage();
+    }
+
+    @ResponseStatus(HttpStatus.PRECONDITION_FAILED)
+    @ExceptionHandler(VersionConflictException.class)
+    protected String return412(Exception e, HttpServletRequest request) {
+        request.setAttribute(RequestMetricsTagsProvider.HANDLED_EXCEPTION_ATTRIBUTE, e);
+        return e.getMessage();
+    }
+
+    @ResponseStatus(HttpStatus.CONFLICT)
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    protected String return409(Exception e, HttpServletRequest request) {
+        request.setAttribute(RequestMetricsTagsProvider.HANDLED_EXCEPTION_ATTRIBUTE, e);
         return e.getMessage();
     }
 
     @ResponseStatus(HttpStatus.NOT_FOUND)
     @ExceptionHandler({NoSuchElementException.class, AccessValidationException.class})
-    protected String return404(Exception e) {
+    protected String return404(Exception e, HttpServletRequest request) {
+        request.setAttribute(RequestMetricsTagsProvider.HANDLED_EXCEPTION_ATTRIBUTE, e);
+        return e.getMessage();
+    }
+
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    @ExceptionHandler(PageViewTimeoutException.class)
+    protected String return503(Exception e, HttpServletRequest request) {
+        request.setAttribute(RequestMetricsTagsProvider.HANDLED_EXCEPTION_ATTRIBUTE, e);
         return e.getMessage();
     }
 }
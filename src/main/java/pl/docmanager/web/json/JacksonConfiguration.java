@@ -0,0 +1,16 @@
+package pl.docmanager.web.json;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.module.afterburner.AfterburnerModule;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class JacksonConfiguration {
+
+    // registered with Boot's ObjectMapper, replaces reflective getter calls with generated bytecode
+    @Bean
+    public Module afterburnerModule() {
+        return new AfterburnerModule();
+    }
+}
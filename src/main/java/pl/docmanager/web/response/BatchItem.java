@@ -0,0 +1,30 @@
+package pl.docmanager.web.response;
+
+/**
+ * One entry of a batch GET response, in the position of its key in the request. Keys that matched nothing are
+ * marked with {@code found: false} and have no value.
+ */
+public class BatchItem<T> {
+
+    private final Object key;
+    private final boolean found;
+    private final T value;
+
+    public BatchItem(Object key, T value) {
+        this.key = key;
+        this.found = value != null;
+        this.value = value;
+    }
+
+    public Object getKey() {
+        return key;
+    }
+
+    public boolean isFound() {
+        return found;
+    }
+
+    public T getValue() {
+        return value;
+    }
+}
@@ -0,0 +1,54 @@
+package pl.docmanager.web.response;
+
+import pl.docmanager.domain.category.CategoryItem;
+import pl.docmanager.domain.category.CategoryItemContentType;
+import pl.docmanager.domain.category.CategoryItemState;
+
+public class CategoryItemResponse {
+
+    private final long id;
+    private final CategoryResponse category;
+    private final CategoryItemContentType contentType;
+    private final PageResponse contentPage;
+    private final CategoryResponse contentCategory;
+    private final int index;
+    private final CategoryItemState state;
+
+    public CategoryItemResponse(CategoryItem categoryItem) {
+        this.id = categoryItem.getId();
+        this.category = CategoryResponse.of(categoryItem.getCategory());
+        this.contentType = categoryItem.getContentType();
+        this.contentPage = PageResponse.of(categoryItem.getContentPage());
+        this.contentCategory = CategoryResponse.of(categoryItem.getContentCategory());
+        this.index = categoryItem.getIndex();
+        this.state = categoryItem.getState();
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public CategoryResponse getCategory() {
+        return category;
+    }
+
+    public CategoryItemContentType getContentType() {
+        return contentType;
+    }
+
+    public PageResponse getContentPage() {
+        return contentPage;
+    }
+
+    public CategoryResponse getContentCategory() {
+        return contentCategory;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public CategoryItemState getState() {
+        return state;
+    }
+}
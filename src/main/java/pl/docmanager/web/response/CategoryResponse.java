@@ -0,0 +1,65 @@
+package pl.docmanager.web.response;
+
+import pl.docmanager.domain.category.Category;
+import pl.docmanager.domain.category.CategoryState;
+
+import java.time.LocalDateTime;
+
+public class CategoryResponse {
+
+    private final long id;
+    private final SolutionSummary solution;
+    private final UserSummary author;
+    private final String name;
+    private final LocalDateTime createDate;
+    private final String url;
+    private final CategoryState state;
+    private final long version;
+
+    public CategoryResponse(Category category) {
+        this.id = category.getId();
+        this.solution = SolutionSummary.of(category.getSolution());
+        this.author = UserSummary.of(category.getAuthor());
+        this.name = category.getName();
+        this.createDate = category.getCreateDate();
+        this.url = category.getUrl();
+        this.state = category.getState();
+        this.version = category.getVersion();
+    }
+
+    public static CategoryResponse of(Category category) {
+        return category == null ? null : new CategoryResponse(category);
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public SolutionSummary getSolution() {
+        return solution;
+    }
+
+    public UserSummary getAuthor() {
+        return author;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public LocalDateTime getCreateDate() {
+        return createDate;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public CategoryState getState() {
+        return state;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+}
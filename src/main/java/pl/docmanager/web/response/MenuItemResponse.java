@@ -0,0 +1,89 @@
+package pl.docmanager.web.response;
+
+import pl.docmanager.domain.menu.MenuItem;
+import pl.docmanager.domain.menu.MenuItemState;
+import pl.docmanager.domain.menu.MenuItemTargetType;
+
+/**
+ * Menu entry with its target reduced to what a link needs: the url of a page or category, or the id of any other
+ * target.
+ */
+public class MenuItemResponse {
+
+    private final long id;
+    private final String name;
+    private final MenuItemTargetType targetType;
+    private final String targetUrl;
+    private final String targetPageUrl;
+    private final String targetCategoryUrl;
+    private final Long targetMenuId;
+    private final Long targetDashboardId;
+    private final Long targetAttachmentId;
+    private final Long targetImageId;
+    private final int index;
+    private final MenuItemState state;
+
+    public MenuItemResponse(MenuItem menuItem) {
+        this.id = menuItem.getId();
+        this.name = menuItem.getName();
+        this.targetType = menuItem.getTargetType();
+        this.targetUrl = menuItem.getTargetUrl();
+        this.targetPageUrl = menuItem.getTargetPage() == null ? null : menuItem.getTargetPage().getUrl();
+        this.targetCategoryUrl = menuItem.getTargetCategory() == null ? null : menuItem.getTargetCategory().getUrl();
+        this.targetMenuId = menuItem.getTargetMenu() == null ? null : menuItem.getTargetMenu().getId();
+        this.targetDashboardId = menuItem.getTargetDashboard() == null ? null : menuItem.getTargetDashboard().getId();
+        this.targetAttachmentId = menuItem.getTargetAttachment() == null ? null :
+                menuItem.getTargetAttachment().getId();
+        this.targetImageId = menuItem.getTargetImage() == null ? null : menuItem.getTargetImage().getId();
+        this.index = menuItem.getIndex();
+        this.state = menuItem.getState();
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public MenuItemTargetType getTargetType() {
+        return targetType;
+    }
+
+    public String getTargetUrl() {
+        return targetUrl;
+    }
+
+    public String getTargetPageUrl() {
+        return targetPageUrl;
+    }
+
+    public String getTargetCategoryUrl() {
+        return targetCategoryUrl;
+    }
+
+    public Long getTargetMenuId() {
+        return targetMenuId;
+    }
+
+    public Long getTargetDashboardId() {
+        return targetDashboardId;
+    }
+
+    public Long getTargetAttachmentId() {
+        return targetAttachmentId;
+    }
+
+    public Long getTargetImageId() {
+        return targetImageId;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public MenuItemState getState() {
+        return state;
+    }
+}
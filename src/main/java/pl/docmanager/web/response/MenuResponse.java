@@ -0,0 +1,37 @@
+package pl.docmanager.web.response;
+
+import pl.docmanager.domain.menu.Menu;
+import pl.docmanager.domain.menu.MenuState;
+
+import java.util.List;
+
+public class MenuResponse {
+
+    private final long id;
+    private final String name;
+    private final MenuState state;
+    private final List<MenuItemResponse> items;
+
+    public MenuResponse(Menu menu, List<MenuItemResponse> items) {
+        this.id = menu.getId();
+        this.name = menu.getName();
+        this.state = menu.getState();
+        this.items = items;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public MenuState getState() {
+        return state;
+    }
+
+    public List<MenuItemResponse> getItems() {
+        return items;
+    }
+}
@@ -0,0 +1,71 @@
+package pl.docmanager.web.response;
+
+import pl.docmanager.domain.page.Page;
+import pl.docmanager.domain.page.PageState;
+
+import java.time.LocalDateTime;
+
+public class PageResponse {
+
+    private final long id;
+    private final SolutionSummary solution;
+    private final UserSummary author;
+    private final String name;
+    private final String content;
+    private final LocalDateTime createDate;
+    private final String url;
+    private final PageState state;
+    private final long version;
+
+    public PageResponse(Page page) {
+        this.id = page.getId();
+        this.solution = SolutionSummary.of(page.getSolution());
+        this.author = UserSummary.of(page.getAuthor());
+        this.name = page.getName();
+        this.content = page.getContent();
+        this.createDate = page.getCreateDate();
+        this.url = page.getUrl();
+        this.state = page.getState();
+        this.version = page.getVersion();
+    }
+
+    public static PageResponse of(Page page) {
+        return page == null ? null : new PageResponse(page);
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public SolutionSummary getSolution() {
+        return solution;
+    }
+
+    public UserSummary getAuthor() {
+        return author;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getContent() {
+        return content;
+    }
+
+    public LocalDateTime getCreateDate() {
+        return createDate;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public PageState getState() {
+        return state;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+}
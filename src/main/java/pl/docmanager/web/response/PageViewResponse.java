@@ -0,0 +1,39 @@
+package pl.docmanager.web.response;
+
+import java.util.List;
+
+/**
+ * Everything needed to render one documentation page: the page, the categories containing it, the solution's
+ * menus and its settings.
+ */
+public class PageViewResponse {
+
+    private final PageResponse page;
+    private final List<CategoryResponse> categories;
+    private final List<MenuResponse> menus;
+    private final List<SettingsResponse> settings;
+
+    public PageViewResponse(PageResponse page, List<CategoryResponse> categories, List<MenuResponse> menus,
+                            List<SettingsResponse> settings) {
+        this.page = page;
+        this.categories = categories;
+        this.menus = menus;
+        this.settings = settings;
+    }
+
+    public PageResponse getPage() {
+        return page;
+    }
+
+    public List<CategoryResponse> getCategories() {
+        return categories;
+    }
+
+    public List<MenuResponse> getMenus() {
+        return menus;
+    }
+
+    public List<SettingsResponse> getSettings() {
+        return settings;
+    }
+}
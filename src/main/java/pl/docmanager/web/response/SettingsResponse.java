@@ -0,0 +1,34 @@
+package pl.docmanager.web.response;
+
+import pl.docmanager.domain.global.Settings;
+
+public class SettingsResponse {
+
+    private final long id;
+    private final String name;
+    private final String value;
+    private final String domain;
+
+    public SettingsResponse(Settings settings) {
+        this.id = settings.getId();
+        this.name = settings.getName();
+        this.value = settings.getValue();
+        this.domain = settings.getDomain();
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public String getDomain() {
+        return domain;
+    }
+}
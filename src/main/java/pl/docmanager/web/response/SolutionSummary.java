@@ -0,0 +1,33 @@
+package pl.docmanager.web.response;
+
+import pl.docmanager.domain.solution.Solution;
+import pl.docmanager.domain.solution.SolutionState;
+
+public class SolutionSummary {
+
+    private final long id;
+    private final String name;
+    private final SolutionState state;
+
+    public SolutionSummary(long id, String name, SolutionState state) {
+        this.id = id;
+        this.name = name;
+        this.state = state;
+    }
+
+    public static SolutionSummary of(Solution solution) {
+        return solution == null ? null : new SolutionSummary(solution.getId(), solution.getName(), solution.getState());
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public SolutionState getState() {
+        return state;
+    }
+}
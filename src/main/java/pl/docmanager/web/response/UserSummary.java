@@ -0,0 +1,30 @@
+package pl.docmanager.web.response;
+
+import pl.docmanager.domain.user.User;
+
+/**
+ * Author of a page or category as it is exposed in responses, without the password hash, the solution and the
+ * createdBy and userType chains of the {@link User} entity.
+ */
+public class UserSummary {
+
+    private final long id;
+    private final String email;
+
+    public UserSummary(long id, String email) {
+        this.id = id;
+        this.email = email;
+    }
+
+    public static UserSummary of(User user) {
+        return user == null ? null : new UserSummary(user.getId(), user.getEmail());
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+}
@@ -1,6 +1,9 @@
 package pl.docmanager.web.security;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -8,6 +11,7 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import pl.docmanager.metrics.Outcome;
 
 import javax.servlet.FilterChain;
 import javax.servlet.http.HttpServletRequest;
@@ -19,23 +23,34 @@ public class ApiAuthenticationFilter extends UsernamePasswordAuthenticationFilte
 
     private static final Logger log = LogManager.getLogger(ApiAuthenticationFilter.class);
     private AuthenticationManager authenticationManager;
+    private MeterRegistry meterRegistry;
 
-    public ApiAuthenticationFilter(AuthenticationManager authenticationManager) {
+    public ApiAuthenticationFilter(AuthenticationManager authenticationManager, MeterRegistry meterRegistry) {
         this.authenticationManager = authenticationManager;
+        this.meterRegistry = meterRegistry;
     }
 
     @Override
     public Authentication attemptAuthentication(HttpServletRequest request, HttpServletResponse response)
             throws AuthenticationException {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Outcome outcome = Outcome.SERVER_ERROR;
         try {
             UserPasswordCredentials credentials = new ObjectMapper()
                     .readValue(request.getInputStream(), UserPasswordCredentials.class);
 
-            return authenticationManager.authenticate(
+            Authentication authentication = authenticationManager.authenticate(
                     new UsernamePasswordAuthenticationToken(
                             credentials.getEmail(), credentials.getPassword()));
+            outcome = Outcome.SUCCESS;
+            return authentication;
+        } catch (AuthenticationException e) {
+            outcome = Outcome.INVALID;
+            throw e;
         } catch (IOException e) {
             log.error("Error while authenticating user", e);
+        } finally {
+            sample.stop(meterRegistry.timer("docmanager.security.login", Tags.of(outcome.asTag())));
         }
         return null;
     }
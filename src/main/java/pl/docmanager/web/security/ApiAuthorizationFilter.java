@@ -2,11 +2,15 @@ package pl.docmanager.web.security;
 
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.www.BasicAuthenticationFilter;
+import pl.docmanager.metrics.Outcome;
 
 import javax.servlet.FilterChain;
 import javax.servlet.ServletException;
@@ -17,8 +21,11 @@ import java.util.ArrayList;
 
 public class ApiAuthorizationFilter extends BasicAuthenticationFilter {
 
-    public ApiAuthorizationFilter(AuthenticationManager authenticationManager) {
+    private MeterRegistry meterRegistry;
+
+    public ApiAuthorizationFilter(AuthenticationManager authenticationManager, MeterRegistry meterRegistry) {
         super(authenticationManager);
+        this.meterRegistry = meterRegistry;
     }
 
     @Override
@@ -33,6 +40,8 @@ public class ApiAuthorizationFilter extends BasicAuthenticationFilter {
         }
 
         Authentication auth;
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Outcome outcome = Outcome.SERVER_ERROR;
         try {
             String user = Jwts.parser()
                     .setSigningKey(SecretKeeper.getInstance().getSecret().getBytes())
@@ -40,8 +49,12 @@ public class ApiAuthorizationFilter extends BasicAuthenticationFilter {
                     .getBody()
                     .getSubject();
             auth = user == null ? null : new UsernamePasswordAuthenticationToken(user, null, new ArrayList<>());
+            outcome = user == null ? Outcome.INVALID : Outcome.SUCCESS;
         } catch (SignatureException e) {
             auth = null;
+            outcome = Outcome.INVALID;
+        } finally {
+            sample.stop(meterRegistry.timer("docmanager.security.token", Tags.of(outcome.asTag())));
         }
         SecurityContextHolder.getContext().setAuthentication(auth);
         chain.doFilter(request, response);
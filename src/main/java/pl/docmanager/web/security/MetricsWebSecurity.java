@@ -0,0 +1,57 @@
+package pl.docmanager.web.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.config.annotation.authentication.builders.AuthenticationManagerBuilder;
+import org.springframework.security.config.annotation.authentication.configurers.provisioning.InMemoryUserDetailsManagerConfigurer;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.config.annotation.web.configuration.WebSecurityConfigurerAdapter;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.crypto.factory.PasswordEncoderFactories;
+
+/**
+ * Prometheus scrapes {@code /actuator/prometheus} with HTTP basic authentication as
+ * {@code docmanager.metrics.scrape.username}. The password is set with {@code docmanager.metrics.scrape.password}
+ * in encoded form, e.g. {@code {bcrypt}$2a$10$...}; while it is not set the endpoint rejects every request. API
+ * users cannot read the metrics.
+ */
+@EnableWebSecurity
+@Configuration
+@Order(0)
+public class MetricsWebSecurity extends WebSecurityConfigurerAdapter {
+
+    static final String PROMETHEUS_PATH = "/actuator/prometheus";
+    private static final String SCRAPE_ROLE = "METRICS";
+
+    private final String username;
+    private final String password;
+
+    public MetricsWebSecurity(@Value("${docmanager.metrics.scrape.username:prometheus}") String username,
+                              @Value("${docmanager.metrics.scrape.password:}") String password) {
+        this.username = username;
+        this.password = password;
+    }
+
+    @Override
+    protected void configure(HttpSecurity http) throws Exception {
+        http.csrf().disable()
+                .antMatcher(PROMETHEUS_PATH).authorizeRequests()
+                .anyRequest().hasRole(SCRAPE_ROLE)
+                .and()
+                .httpBasic()
+                .and()
+                .sessionManagement().sessionCreationPolicy(SessionCreationPolicy.STATELESS);
+    }
+
+    @Override
+    public void configure(AuthenticationManagerBuilder auth) throws Exception {
+        // configured even without a user, so that the API users of the global authentication manager are not used
+        InMemoryUserDetailsManagerConfigurer<AuthenticationManagerBuilder> users = auth.inMemoryAuthentication()
+                .passwordEncoder(PasswordEncoderFactories.createDelegatingPasswordEncoder());
+        if (!password.isEmpty()) {
+            users.withUser(username).password(password).roles(SCRAPE_ROLE);
+        }
+    }
+}
@@ -1,15 +1,16 @@
 package pl.docmanager.web.security;
 
 public class SecretKeeper {
-    private static SecretKeeper instance;
 
     private SecretKeeper() { }
 
-    public synchronized static SecretKeeper getInstance() {
-        if (instance == null) {
-            instance = new SecretKeeper();
-        }
-        return instance;
+    // initialized by the class loader on first use, reading it needs no lock that could pin a virtual thread
+    private static class Holder {
+        private static final SecretKeeper INSTANCE = new SecretKeeper();
+    }
+
+    public static SecretKeeper getInstance() {
+        return Holder.INSTANCE;
     }
 
     public String getSecret() {
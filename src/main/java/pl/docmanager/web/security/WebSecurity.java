@@ -1,5 +1,8 @@
 package pl.docmanager.web.security;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -23,22 +26,27 @@ public class WebSecurity extends WebSecurityConfigurerAdapter {
 
     private UserDetailsService userDetailsService;
     private BCryptPasswordEncoder bCryptPasswordEncoder;
+    private MeterRegistry meterRegistry;
 
-    public WebSecurity(@Qualifier("userDetailsServiceImpl") UserDetailsService userDetailsService) {
+    public WebSecurity(@Qualifier("userDetailsServiceImpl") UserDetailsService userDetailsService,
+                       ObjectProvider<MeterRegistry> meterRegistry) {
         this.userDetailsService = userDetailsService;
         this.bCryptPasswordEncoder = new BCryptPasswordEncoder();
+        this.meterRegistry = meterRegistry.getIfAvailable(() -> Metrics.globalRegistry);
     }
 
     @Override
     protected void configure(HttpSecurity http) throws Exception {
-        ApiAuthenticationFilter authenticationFilter = new ApiAuthenticationFilter(authenticationManager());
+        ApiAuthenticationFilter authenticationFilter =
+                new ApiAuthenticationFilter(authenticationManager(), meterRegistry);
         authenticationFilter.setFilterProcessesUrl("/api/login");
 
         http.cors().and().csrf().disable().authorizeRequests()
+                .antMatchers(HttpMethod.GET, "/actuator/health").permitAll()
                 .anyRequest().authenticated()
                 .and()
                 .addFilter(authenticationFilter)
-                .addFilter(new ApiAuthorizationFilter(authenticationManager()))
+                .addFilter(new ApiAuthorizationFilter(authenticationManager(), meterRegistry))
                 .sessionManagement().sessionCreationPolicy(SessionCreationPolicy.STATELESS);
     }
 
@@ -0,0 +1,47 @@
+package pl.docmanager.web.server;
+
+import org.apache.coyote.AbstractProtocol;
+import org.apache.coyote.ProtocolHandler;
+import org.apache.coyote.http11.AbstractHttp11Protocol;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Read node for the public docs portal, enabled by the "readnode" profile. It serves the GET endpoints only, its
+ * read-only transactions go to the replica, and its connector is tuned for many idle keep-alive connections.
+ * <p>
+ * Tomcat's NIO connector parks idle keep-alive connections in its poller, a thread is only taken while a request
+ * is processed, and with virtual threads that thread is released while the request waits for JDBC.
+ */
+@Configuration
+@ConditionalOnProperty(name = "docmanager.read-node.enabled", havingValue = "true")
+public class ReadNodeConfiguration {
+
+    @Bean
+    public FilterRegistrationBean<ReadOnlyApiFilter> readOnlyApiFilter() {
+        FilterRegistrationBean<ReadOnlyApiFilter> registration = new FilterRegistrationBean<>(new ReadOnlyApiFilter());
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 1);
+        return registration;
+    }
+
+    @Bean
+    public WebServerFactoryCustomizer<TomcatServletWebServerFactory> readNodeTomcatCustomizer(
+            @Value("${docmanager.read-node.keep-alive-timeout-millis:120000}") int keepAliveTimeoutMillis,
+            @Value("${docmanager.read-node.max-keep-alive-requests:-1}") int maxKeepAliveRequests) {
+        return factory -> factory.addConnectorCustomizers(connector -> {
+            ProtocolHandler handler = connector.getProtocolHandler();
+            if (handler instanceof AbstractHttp11Protocol) {
+                ((AbstractHttp11Protocol<?>) handler).setMaxKeepAliveRequests(maxKeepAliveRequests);
+            }
+            if (handler instanceof AbstractProtocol) {
+                ((AbstractProtocol<?>) handler).setKeepAliveTimeout(keepAliveTimeoutMillis);
+            }
+        });
+    }
+}
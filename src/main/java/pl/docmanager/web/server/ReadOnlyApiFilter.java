@@ -0,0 +1,41 @@
+package pl.docmanager.web.server;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+/**
+ * Rejects API writes on a read node with 405, before the token is verified. Logins are still accepted, they only
+ * read the user.
+ */
+public class ReadOnlyApiFilter extends OncePerRequestFilter {
+
+    static final String LOGIN_PATH = "/api/login";
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        if (isWrite(request)) {
+            response.setHeader(HttpHeaders.ALLOW, "GET, HEAD, OPTIONS");
+            response.sendError(HttpStatus.METHOD_NOT_ALLOWED.value(), "This node only serves reads");
+            return;
+        }
+        chain.doFilter(request, response);
+    }
+
+    private boolean isWrite(HttpServletRequest request) {
+        HttpMethod method = HttpMethod.resolve(request.getMethod());
+        if (method == HttpMethod.GET || method == HttpMethod.HEAD || method == HttpMethod.OPTIONS) {
+            return false;
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return path.startsWith("/api/") && !path.equals(LOGIN_PATH);
+    }
+}
@@ -0,0 +1,46 @@
+package pl.docmanager.web.server;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Creates virtual-thread executors on JDKs that have them. The application is compiled for Java 8, so the JDK 21
+ * API is looked up reflectively and an empty result means the running JDK does not support virtual threads.
+ */
+public final class VirtualThreads {
+
+    private VirtualThreads() { }
+
+    public static boolean isSupported() {
+        return threadFactory("probe-").isPresent();
+    }
+
+    public static Optional<ExecutorService> newThreadPerTaskExecutor(String namePrefix) {
+        return threadFactory(namePrefix).flatMap(factory -> {
+            try {
+                return Optional.of((ExecutorService) Executors.class
+                        .getMethod("newThreadPerTaskExecutor", ThreadFactory.class)
+                        .invoke(null, factory));
+            } catch (ReflectiveOperationException e) {
+                return Optional.empty();
+            }
+        });
+    }
+
+    private static Optional<ThreadFactory> threadFactory(String namePrefix) {
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+            builder = builderType.getMethod("name", String.class, long.class).invoke(builder, namePrefix, 0L);
+            return Optional.of((ThreadFactory) builderType.getMethod("factory").invoke(builder));
+        } catch (InvocationTargetException e) {
+            // JDK 19 and 20 have the API behind --enable-preview and throw when it is not enabled
+            return Optional.empty();
+        } catch (ReflectiveOperationException e) {
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package pl.docmanager.web.server;
+
+import org.apache.coyote.AbstractProtocol;
+import org.apache.coyote.ProtocolHandler;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Opt-in mode, enabled with {@code docmanager.virtual-threads.enabled=true}, in which Tomcat runs every request on
+ * its own virtual thread instead of its fixed worker pool. Requests then wait for a database connection instead of
+ * a worker thread, {@code spring.datasource.hikari.maximum-pool-size} becomes the concurrency limit for JDBC work.
+ * <p>
+ * On JDKs without virtual threads a warning is logged and the worker pool is kept.
+ */
+@Configuration
+@ConditionalOnProperty(name = "docmanager.virtual-threads.enabled", havingValue = "true")
+public class VirtualThreadsConfiguration {
+
+    private static final Logger log = LogManager.getLogger(VirtualThreadsConfiguration.class);
+
+    @Bean
+    public WebServerFactoryCustomizer<TomcatServletWebServerFactory> virtualThreadsTomcatCustomizer() {
+        return factory -> {
+            Optional<ExecutorService> executor = VirtualThreads.newThreadPerTaskExecutor("http-vt-");
+            if (!executor.isPresent()) {
+                log.warn("docmanager.virtual-threads.enabled is set, but Java {} has no virtual threads; " +
+                        "requests stay on the Tomcat worker pool", System.getProperty("java.version"));
+                return;
+            }
+
+            factory.addConnectorCustomizers(connector -> {
+                ProtocolHandler handler = connector.getProtocolHandler();
+                if (handler instanceof AbstractProtocol) {
+                    ((AbstractProtocol<?>) handler).setExecutor(executor.get());
+                    log.info("Tomcat requests run on virtual threads");
+                }
+            });
+        };
+    }
+}
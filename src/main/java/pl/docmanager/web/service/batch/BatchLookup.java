@@ -0,0 +1,54 @@
+package pl.docmanager.web.service.batch;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import pl.docmanager.dao.exception.EntityValidationException;
+import pl.docmanager.web.response.BatchItem;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Validates the keys of batch GETs and puts the entities found for them back in request order.
+ */
+@Service
+public class BatchLookup {
+
+    private final int maxItems;
+
+    @Autowired
+    public BatchLookup(@Value("${docmanager.batch.max-items:100}") int maxItems) {
+        this.maxItems = maxItems;
+    }
+
+    public <K> Set<K> distinctKeys(List<K> keys) {
+        if (keys == null || keys.isEmpty()) {
+            throw new EntityValidationException("A batch needs at least one key");
+        }
+        if (keys.size() > maxItems) {
+            throw new EntityValidationException("A batch can have at most " + maxItems + " keys, got " + keys.size());
+        }
+        if (keys.contains(null)) {
+            throw new EntityValidationException("Batch keys cannot be null");
+        }
+        return new LinkedHashSet<>(keys);
+    }
+
+    public <K, V, R> List<BatchItem<R>> inRequestOrder(List<K> keys, Collection<V> values, Function<V, K> keyOf,
+                                                      Function<V, R> mapper) {
+        Map<K, R> found = new HashMap<>();
+        for (V value : values) {
+            found.put(keyOf.apply(value), mapper.apply(value));
+        }
+        return keys.stream()
+                .map(key -> new BatchItem<>(key, found.get(key)))
+                .collect(Collectors.toList());
+    }
+}
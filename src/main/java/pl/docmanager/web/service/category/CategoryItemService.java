@@ -2,6 +2,7 @@ package pl.docmanager.web.service.category;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import pl.docmanager.dao.category.CategoryDao;
 import pl.docmanager.dao.category.CategoryItemDao;
 import pl.docmanager.domain.category.Category;
@@ -29,6 +30,7 @@ public class CategoryItemService {
         this.categoryItemDao = categoryItemDao;
     }
 
+    @Transactional(readOnly = true)
     public List<CategoryItem> getAllByCategoryId(long categoryId, String apiToken) {
         Category category = categoryDao.getCategoryById(categoryId);
         User user = apiTokenDecoder.getUseFromApiToken(apiToken);
@@ -1,15 +1,28 @@
 package pl.docmanager.web.service.category;
 
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import pl.docmanager.dao.category.CategoryDao;
+import pl.docmanager.dao.category.CategoryPatch;
+import pl.docmanager.dao.patch.PatchResult;
 import pl.docmanager.domain.category.Category;
 import pl.docmanager.domain.category.CategoryState;
 import pl.docmanager.domain.user.User;
+import pl.docmanager.web.cache.CategoryResponseCache;
+import pl.docmanager.web.cache.SerializedResponse;
+import pl.docmanager.web.response.BatchItem;
+import pl.docmanager.web.response.CategoryResponse;
 import pl.docmanager.web.security.AccessValidator;
 import pl.docmanager.web.security.ApiTokenDecoder;
+import pl.docmanager.web.service.batch.BatchLookup;
+import pl.docmanager.web.warmup.AccessStatistics;
+import pl.docmanager.web.warmup.CachedResource;
 
 import java.time.LocalDateTime;
-import java.util.Map;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
 
 @Service
 public class CategoryService {
@@ -17,14 +30,23 @@ public class CategoryService {
     private AccessValidator accessValidator;
     private ApiTokenDecoder apiTokenDecoder;
     private CategoryDao categoryDao;
+    private CategoryResponseCache categoryResponseCache;
+    private BatchLookup batchLookup;
+    private AccessStatistics accessStatistics;
 
+    @Autowired
     public CategoryService(AccessValidator accessValidator, ApiTokenDecoder apiTokenDecoder,
-                           CategoryDao categoryDao) {
+                           CategoryDao categoryDao, CategoryResponseCache categoryResponseCache,
+                           BatchLookup batchLookup, AccessStatistics accessStatistics) {
         this.accessValidator = accessValidator;
         this.apiTokenDecoder = apiTokenDecoder;
         this.categoryDao = categoryDao;
+        this.categoryResponseCache = categoryResponseCache;
+        this.batchLookup = batchLookup;
+        this.accessStatistics = accessStatistics;
     }
 
+    @Transactional(readOnly = true)
     public Category getCategoryById(long id, long solutionId, String apiToken) {
         User requester = apiTokenDecoder.getUseFromApiToken(apiToken);
         Category category = categoryDao.getCategoryById(id);
@@ -33,12 +55,53 @@ public class CategoryService {
         return category;
     }
 
+    @Transactional(readOnly = true)
     public Category getCategoryByUrl(String url, long solutionId, String apiToken) {
         User requester = apiTokenDecoder.getUseFromApiToken(apiToken);
         accessValidator.validateSolution(requester, solutionId);
         return categoryDao.getCategoryByUrl(url, solutionId);
     }
 
+    @Transactional(readOnly = true)
+    public SerializedResponse getSerializedCategoryByUrl(String url, long solutionId, String apiToken) {
+        User requester = apiTokenDecoder.getUseFromApiToken(apiToken);
+        accessValidator.validateSolution(requester, solutionId);
+        SerializedResponse response = categoryResponseCache.get(CategoryResponseCache.key(solutionId, url),
+                () -> new CategoryResponse(categoryDao.getCategoryByUrl(url, solutionId)));
+        // only urls that exist are worth warming up
+        accessStatistics.record(CachedResource.CATEGORY, solutionId, url);
+        return response;
+    }
+
+    @Transactional(readOnly = true)
+    public int preloadCategories(Collection<String> urls, long solutionId) {
+        List<Category> categories = categoryDao.getCategoriesByUrls(urls, solutionId);
+        for (Category category : categories) {
+            CategoryResponse response = new CategoryResponse(category);
+            categoryResponseCache.get(CategoryResponseCache.key(solutionId, category.getUrl()), () -> response);
+        }
+        return categories.size();
+    }
+
+    @Transactional(readOnly = true)
+    public List<BatchItem<CategoryResponse>> getCategoriesByUrls(List<String> urls, long solutionId, String apiToken) {
+        User requester = apiTokenDecoder.getUseFromApiToken(apiToken);
+        accessValidator.validateSolution(requester, solutionId);
+        Set<String> distinctUrls = batchLookup.distinctKeys(urls);
+        return batchLookup.inRequestOrder(urls, categoryDao.getCategoriesByUrls(distinctUrls, solutionId),
+                Category::getUrl, CategoryResponse::new);
+    }
+
+    @Transactional(readOnly = true)
+    public List<BatchItem<CategoryResponse>> getCategoriesByIds(List<Long> ids, long solutionId, String apiToken) {
+        User requester = apiTokenDecoder.getUseFromApiToken(apiToken);
+        accessValidator.validateSolution(requester, solutionId);
+        Set<Long> distinctIds = batchLookup.distinctKeys(ids);
+        return batchLookup.inRequestOrder(ids, categoryDao.getCategoriesByIds(distinctIds, solutionId),
+                Category::getId, CategoryResponse::new);
+    }
+
+    @Transactional
     public void addCategory(Category category, String apiToken) {
         User requester = apiTokenDecoder.getUseFromApiToken(apiToken);
         if (category.getSolution() == null) {
@@ -51,9 +114,15 @@ public class CategoryService {
         categoryDao.addCategory(category);
     }
 
-    public Category updateCategory(Map<String, Object> updatesMap, String url, long solutionId, String apiToken) {
+    @Transactional
+    public PatchResult updateCategory(CategoryPatch patch, String url, long solutionId, Long expectedVersion,
+                                      String apiToken) {
         User requester = apiTokenDecoder.getUseFromApiToken(apiToken);
         accessValidator.validateSolution(requester, solutionId);
-        return categoryDao.updateCategory(updatesMap, url, solutionId);
+        PatchResult result = categoryDao.updateCategory(patch, url, solutionId, expectedVersion);
+        if (result.isUpdated()) {
+            categoryResponseCache.evictAfterCommit(CategoryResponseCache.key(solutionId, url));
+        }
+        return result;
     }
 }
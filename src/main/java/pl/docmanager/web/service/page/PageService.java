@@ -2,17 +2,28 @@ package pl.docmanager.web.service.page;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import pl.docmanager.dao.page.PageDao;
+import pl.docmanager.dao.page.PagePatch;
+import pl.docmanager.dao.patch.PatchResult;
 import pl.docmanager.domain.page.Page;
 import pl.docmanager.domain.page.PageState;
 import pl.docmanager.domain.page.wrapper.PageWithCategories;
 import pl.docmanager.domain.user.User;
+import pl.docmanager.web.cache.PageResponseCache;
+import pl.docmanager.web.cache.SerializedResponse;
+import pl.docmanager.web.response.BatchItem;
+import pl.docmanager.web.response.PageResponse;
 import pl.docmanager.web.security.AccessValidator;
 import pl.docmanager.web.security.ApiTokenDecoder;
+import pl.docmanager.web.service.batch.BatchLookup;
+import pl.docmanager.web.warmup.AccessStatistics;
+import pl.docmanager.web.warmup.CachedResource;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
-import java.util.Map;
+import java.util.Set;
 
 @Service
 public class PageService {
@@ -20,21 +31,69 @@ public class PageService {
     private AccessValidator accessValidator;
     private ApiTokenDecoder apiTokenDecoder;
     private PageDao pageDao;
+    private PageResponseCache pageResponseCache;
+    private BatchLookup batchLookup;
+    private AccessStatistics accessStatistics;
 
     @Autowired
     public PageService(AccessValidator accessValidator, ApiTokenDecoder apiTokenDecoder,
-                       PageDao pageDao) {
+                       PageDao pageDao, PageResponseCache pageResponseCache, BatchLookup batchLookup,
+                       AccessStatistics accessStatistics) {
         this.accessValidator = accessValidator;
         this.apiTokenDecoder = apiTokenDecoder;
         this.pageDao = pageDao;
+        this.pageResponseCache = pageResponseCache;
+        this.batchLookup = batchLookup;
+        this.accessStatistics = accessStatistics;
     }
 
+    @Transactional(readOnly = true)
     public Page getPageByUrl(String url, long solutionId, String apiToken) {
         User requester = apiTokenDecoder.getUseFromApiToken(apiToken);
         accessValidator.validateSolution(requester, solutionId);
         return pageDao.getPageByUrl(url, solutionId);
     }
 
+    @Transactional(readOnly = true)
+    public SerializedResponse getSerializedPageByUrl(String url, long solutionId, String apiToken) {
+        User requester = apiTokenDecoder.getUseFromApiToken(apiToken);
+        accessValidator.validateSolution(requester, solutionId);
+        SerializedResponse response = pageResponseCache.get(PageResponseCache.key(solutionId, url),
+                () -> new PageResponse(pageDao.getPageByUrl(url, solutionId)));
+        // only urls that exist are worth warming up
+        accessStatistics.record(CachedResource.PAGE, solutionId, url);
+        return response;
+    }
+
+    @Transactional(readOnly = true)
+    public int preloadPages(Collection<String> urls, long solutionId) {
+        List<Page> pages = pageDao.getPagesByUrls(urls, solutionId);
+        for (Page page : pages) {
+            PageResponse response = new PageResponse(page);
+            pageResponseCache.get(PageResponseCache.key(solutionId, page.getUrl()), () -> response);
+        }
+        return pages.size();
+    }
+
+    @Transactional(readOnly = true)
+    public List<BatchItem<PageResponse>> getPagesByUrls(List<String> urls, long solutionId, String apiToken) {
+        User requester = apiTokenDecoder.getUseFromApiToken(apiToken);
+        accessValidator.validateSolution(requester, solutionId);
+        Set<String> distinctUrls = batchLookup.distinctKeys(urls);
+        return batchLookup.inRequestOrder(urls, pageDao.getPagesByUrls(distinctUrls, solutionId),
+                Page::getUrl, PageResponse::new);
+    }
+
+    @Transactional(readOnly = true)
+    public List<BatchItem<PageResponse>> getPagesByIds(List<Long> ids, long solutionId, String apiToken) {
+        User requester = apiTokenDecoder.getUseFromApiToken(apiToken);
+        accessValidator.validateSolution(requester, solutionId);
+        Set<Long> distinctIds = batchLookup.distinctKeys(ids);
+        return batchLookup.inRequestOrder(ids, pageDao.getPagesByIds(distinctIds, solutionId),
+                Page::getId, PageResponse::new);
+    }
+
+    @Transactional
     public void addPage(PageWithCategories pageWithCategories, String apiToken) {
         User requester = apiTokenDecoder.getUseFromApiToken(apiToken);
         Page page = pageWithCategories.getPage();
@@ -59,9 +118,15 @@ public class PageService {
         pageDao.addPageToCategories(page, categoriesIds);
     }
 
-    public Page updatePage(Map<String, Object> updatesMap, String url, long solutionId, String apiToken) {
+    @Transactional
+    public PatchResult updatePage(PagePatch patch, String url, long solutionId, Long expectedVersion,
+                           String apiToken) {
         User requester = apiTokenDecoder.getUseFromApiToken(apiToken);
         accessValidator.validateSolution(requester, solutionId);
-        return pageDao.updatePage(updatesMap, url, solutionId);
+        PatchResult result = pageDao.updatePage(patch, url, solutionId, expectedVersion);
+        if (result.isUpdated()) {
+            pageResponseCache.evictAfterCommit(PageResponseCache.key(solutionId, url));
+        }
+        return result;
     }
 }
@@ -0,0 +1,32 @@
+package pl.docmanager.web.service.page;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.concurrent.DelegatingSecurityContextRunnable;
+import pl.docmanager.dao.sql.SqlStatementStatistics;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class PageViewConfiguration {
+
+    // every page view takes up to three of these threads, each holding a database connection while it runs; when
+    // they are all busy and the queue is full the lookups run on the request thread instead
+    @Bean
+    public ThreadPoolTaskExecutor pageViewExecutor(@Value("${docmanager.page-view.threads:8}") int threads,
+                                                   @Value("${docmanager.page-view.queue-capacity:64}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("page-view-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        // the lookups run for the request: its user routes them to the primary after a recent write and their
+        // statements are counted with the request's
+        executor.setTaskDecorator(task ->
+                new DelegatingSecurityContextRunnable(SqlStatementStatistics.propagate(task)));
+        return executor;
+    }
+}
@@ -0,0 +1,140 @@
+package pl.docmanager.web.service.page;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import pl.docmanager.dao.category.CategoryItemDao;
+import pl.docmanager.dao.menu.MenuDao;
+import pl.docmanager.dao.page.PageDao;
+import pl.docmanager.dao.settings.SettingsDao;
+import pl.docmanager.domain.category.CategoryItem;
+import pl.docmanager.domain.menu.MenuItem;
+import pl.docmanager.domain.user.User;
+import pl.docmanager.web.response.CategoryResponse;
+import pl.docmanager.web.response.MenuItemResponse;
+import pl.docmanager.web.response.MenuResponse;
+import pl.docmanager.web.response.PageResponse;
+import pl.docmanager.web.response.PageViewResponse;
+import pl.docmanager.web.response.SettingsResponse;
+import pl.docmanager.web.security.AccessValidator;
+import pl.docmanager.web.security.ApiTokenDecoder;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Resolves a page together with its categories, the solution's menus and settings. The requester is authenticated
+ * once, then the lookups run concurrently on the page view executor, each in its own read-only transaction.
+ */
+@Service
+public class PageViewService {
+
+    private AccessValidator accessValidator;
+    private ApiTokenDecoder apiTokenDecoder;
+    private PageDao pageDao;
+    private CategoryItemDao categoryItemDao;
+    private MenuDao menuDao;
+    private SettingsDao settingsDao;
+    private Executor pageViewExecutor;
+    private TransactionTemplate readOnlyTransaction;
+    private long timeoutMillis;
+
+    @Autowired
+    public PageViewService(AccessValidator accessValidator, ApiTokenDecoder apiTokenDecoder, PageDao pageDao,
+                           CategoryItemDao categoryItemDao, MenuDao menuDao, SettingsDao settingsDao,
+                           @Qualifier("pageViewExecutor") Executor pageViewExecutor,
+                           PlatformTransactionManager transactionManager,
+                           @Value("${docmanager.page-view.timeout-millis:5000}") long timeoutMillis) {
+        this.accessValidator = accessValidator;
+        this.apiTokenDecoder = apiTokenDecoder;
+        this.pageDao = pageDao;
+        this.categoryItemDao = categoryItemDao;
+        this.menuDao = menuDao;
+        this.settingsDao = settingsDao;
+        this.pageViewExecutor = pageViewExecutor;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        // also a JDBC query timeout, a lookup still running when the view times out gives its connection back
+        this.readOnlyTransaction.setTimeout((int) TimeUnit.MILLISECONDS.toSeconds(timeoutMillis + 999));
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    public PageViewResponse getPageView(String url, long solutionId, String apiToken) {
+        User requester = apiTokenDecoder.getUseFromApiToken(apiToken);
+        accessValidator.validateSolution(requester, solutionId);
+
+        CompletableFuture<PageResponse> page = read(() -> new PageResponse(pageDao.getPageByUrl(url, solutionId)));
+        CompletableFuture<List<CategoryResponse>> categories =
+                page.thenCompose(pageResponse -> read(() -> getCategoriesContaining(pageResponse.getId())));
+        CompletableFuture<List<MenuResponse>> menus = read(() -> getMenus(solutionId));
+        CompletableFuture<List<SettingsResponse>> settings = read(() -> getSettings(solutionId));
+
+        await(url, page, categories, menus, settings);
+        return new PageViewResponse(page.join(), categories.join(), menus.join(), settings.join());
+    }
+
+    private List<CategoryResponse> getCategoriesContaining(long pageId) {
+        return categoryItemDao.getAllByContentPageId(pageId).stream()
+                .map(CategoryItem::getCategory)
+                .distinct()
+                .map(CategoryResponse::new)
+                .collect(Collectors.toList());
+    }
+
+    private List<MenuResponse> getMenus(long solutionId) {
+        Map<Long, List<MenuItemResponse>> items = new LinkedHashMap<>();
+        for (MenuItem menuItem : menuDao.getAllMenuItems(solutionId)) {
+            items.computeIfAbsent(menuItem.getMenu().getId(), id -> new ArrayList<>())
+                    .add(new MenuItemResponse(menuItem));
+        }
+        return menuDao.getAllMenus(solutionId).stream()
+                .map(menu -> new MenuResponse(menu, items.getOrDefault(menu.getId(), new ArrayList<>())))
+                .collect(Collectors.toList());
+    }
+
+    private List<SettingsResponse> getSettings(long solutionId) {
+        return settingsDao.getAllSettings(solutionId).stream()
+                .map(SettingsResponse::new)
+                .collect(Collectors.toList());
+    }
+
+    private <T> CompletableFuture<T> read(Supplier<T> lookup) {
+        return CompletableFuture.supplyAsync(() -> readOnlyTransaction.execute(status -> lookup.get()),
+                pageViewExecutor);
+    }
+
+    private void await(String url, CompletableFuture<?>... lookups) {
+        try {
+            CompletableFuture.allOf(lookups).get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause() instanceof CompletionException ? e.getCause().getCause() : e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IllegalStateException("Page view of " + url + " failed", cause);
+        } catch (TimeoutException e) {
+            // cancelling allOf would leave the lookups alone, queued ones must not start
+            for (CompletableFuture<?> lookup : lookups) {
+                lookup.cancel(true);
+            }
+            throw new PageViewTimeoutException(
+                    "Page view of " + url + " timed out after " + timeoutMillis + " ms", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while reading page view of " + url, e);
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package pl.docmanager.web.service.page;
+
+public class PageViewTimeoutException extends RuntimeException {
+    public PageViewTimeoutException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -2,9 +2,11 @@ package pl.docmanager.web.service.settings;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import pl.docmanager.dao.settings.SettingsDao;
 import pl.docmanager.domain.global.Settings;
 import pl.docmanager.domain.user.User;
+import pl.docmanager.web.cache.SingleFlight;
 import pl.docmanager.web.security.AccessValidator;
 import pl.docmanager.web.security.ApiTokenDecoder;
 
@@ -14,6 +16,7 @@ public class SettingsService {
     private AccessValidator accessValidator;
     private ApiTokenDecoder apiTokenDecoder;
     private SettingsDao settingsDao;
+    private final SingleFlight<String, Settings> settingsLoads = new SingleFlight<>();
 
     @Autowired
     public SettingsService(AccessValidator accessValidator, ApiTokenDecoder apiTokenDecoder,
@@ -23,10 +26,11 @@ public class SettingsService {
         this.settingsDao = settingsDao;
     }
 
+    @Transactional(readOnly = true)
     public Settings getSettingsByName(String name, long solutionId, String apiToken) {
         User user = apiTokenDecoder.getUseFromApiToken(apiToken);
         accessValidator.validateSolution(user, solutionId);
-        return settingsDao.getSettingsByName(name, solutionId);
+        return settingsLoads.load(solutionId + "/" + name, () -> settingsDao.getSettingsByName(name, solutionId));
     }
 
 }
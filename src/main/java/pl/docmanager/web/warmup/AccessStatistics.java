@@ -0,0 +1,106 @@
+package pl.docmanager.web.warmup;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Counts reads of cached pages and categories, so that a restarted node can preload the most read ones.
+ * <p>
+ * At most {@code max-tracked-keys} keys are counted, keys first read once that many are tracked are ignored until
+ * {@link #decay()} drops the ones no longer read.
+ */
+@Service
+public class AccessStatistics {
+
+    private final int topKeys;
+    private final int maxTrackedKeys;
+    private final Map<AccessKey, LongAdder> counts = new ConcurrentHashMap<>();
+
+    @Autowired
+    public AccessStatistics(@Value("${docmanager.warmup.top-keys:100}") int topKeys,
+                            @Value("${docmanager.warmup.max-tracked-keys:100000}") int maxTrackedKeys) {
+        this.topKeys = topKeys;
+        this.maxTrackedKeys = maxTrackedKeys;
+    }
+
+    public void record(CachedResource resource, long solutionId, String url) {
+        AccessKey key = new AccessKey(resource, solutionId, url);
+        LongAdder count = counts.get(key);
+        if (count == null) {
+            if (counts.size() >= maxTrackedKeys) {
+                return;
+            }
+            count = counts.computeIfAbsent(key, ignored -> new LongAdder());
+        }
+        count.increment();
+    }
+
+    public List<HotKeys> topKeys() {
+        Map<AccessKey, Long> snapshot = new LinkedHashMap<>();
+        counts.forEach((key, count) -> snapshot.put(key, count.sum()));
+
+        Map<AccessKey, List<Map.Entry<AccessKey, Long>>> bySolution = snapshot.entrySet().stream()
+                .collect(Collectors.groupingBy(entry -> new AccessKey(entry.getKey().resource,
+                        entry.getKey().solutionId, null)));
+
+        List<HotKeys> hotKeys = new ArrayList<>();
+        bySolution.forEach((solution, entries) -> hotKeys.add(new HotKeys(solution.resource, solution.solutionId,
+                entries.stream()
+                        .sorted(Map.Entry.<AccessKey, Long>comparingByValue(Comparator.reverseOrder()))
+                        .limit(topKeys)
+                        .map(entry -> entry.getKey().url)
+                        .collect(Collectors.toList()))));
+        return hotKeys;
+    }
+
+    // halves every count so that keys read a lot in the past give way to the ones read now
+    public void decay() {
+        counts.entrySet().removeIf(entry -> {
+            long count = entry.getValue().sumThenReset();
+            entry.getValue().add(count / 2);
+            return count < 2;
+        });
+    }
+
+    private static class AccessKey {
+        private final CachedResource resource;
+        private final long solutionId;
+        private final String url;
+
+        private AccessKey(CachedResource resource, long solutionId, String url) {
+            this.resource = resource;
+            this.solutionId = solutionId;
+            this.url = url;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            AccessKey accessKey = (AccessKey) o;
+            return solutionId == accessKey.solutionId &&
+                    resource == accessKey.resource &&
+                    Objects.equals(url, accessKey.url);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(resource, solutionId, url);
+        }
+    }
+}
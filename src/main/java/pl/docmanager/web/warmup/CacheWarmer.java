@@ -0,0 +1,137 @@
+package pl.docmanager.web.warmup;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import pl.docmanager.web.service.category.CategoryService;
+import pl.docmanager.web.service.page.PageService;
+
+import javax.annotation.PreDestroy;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Preloads the page and category caches of a starting node with the keys read most before the last restart, and
+ * saves the current ones periodically and on shutdown.
+ * <p>
+ * The keys are loaded in batches of one IN query each, on a few threads, for at most the configured budget. Until
+ * then the health endpoint reports OUT_OF_SERVICE, which keeps the node out of the load balancer while it warms up.
+ */
+public class CacheWarmer implements ApplicationRunner, HealthIndicator {
+
+    private static final Logger log = LogManager.getLogger(CacheWarmer.class);
+
+    private final AccessStatistics accessStatistics;
+    private final HotKeysStore hotKeysStore;
+    private final PageService pageService;
+    private final CategoryService categoryService;
+    private final int threads;
+    private final int batchSize;
+    private final long budgetMillis;
+
+    private volatile boolean warm;
+    private volatile int preloaded;
+
+    public CacheWarmer(AccessStatistics accessStatistics, HotKeysStore hotKeysStore, PageService pageService,
+                       CategoryService categoryService, int threads, int batchSize, long budgetMillis) {
+        this.accessStatistics = accessStatistics;
+        this.hotKeysStore = hotKeysStore;
+        this.pageService = pageService;
+        this.categoryService = categoryService;
+        this.threads = threads;
+        this.batchSize = batchSize;
+        this.budgetMillis = budgetMillis;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        warmUp();
+    }
+
+    public void warmUp() {
+        List<Callable<Integer>> batches = new ArrayList<>();
+        for (HotKeys hotKeys : hotKeysStore.read()) {
+            List<String> urls = hotKeys.getUrls();
+            for (int from = 0; from < urls.size(); from += batchSize) {
+                List<String> batch = new ArrayList<>(urls.subList(from, Math.min(from + batchSize, urls.size())));
+                batches.add(() -> preload(hotKeys.getResource(), hotKeys.getSolutionId(), batch));
+            }
+        }
+
+        long start = System.currentTimeMillis();
+        int loaded = 0;
+        int timedOut = 0;
+        ExecutorService executor = Executors.newFixedThreadPool(threads, new CustomizableThreadFactory("cache-warmup-"));
+        try {
+            // batches still running when the budget is spent are cancelled
+            for (Future<Integer> result : executor.invokeAll(batches, budgetMillis, TimeUnit.MILLISECONDS)) {
+                if (result.isCancelled()) {
+                    timedOut++;
+                    continue;
+                }
+                try {
+                    loaded += result.get();
+                } catch (ExecutionException e) {
+                    log.warn("Cannot preload a batch of hot keys", e.getCause());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            executor.shutdownNow();
+            preloaded = loaded;
+            warm = true;
+        }
+        log.info("Preloaded {} hot keys in {} batches in {} ms, {} batches did not finish within the budget",
+                loaded, batches.size(), System.currentTimeMillis() - start, timedOut);
+    }
+
+    @Scheduled(fixedDelayString = "${docmanager.warmup.persist-interval-millis:60000}",
+            initialDelayString = "${docmanager.warmup.persist-interval-millis:60000}")
+    public void persist() {
+        save();
+        accessStatistics.decay();
+    }
+
+    @PreDestroy
+    public void save() {
+        List<HotKeys> hotKeys = accessStatistics.topKeys();
+        // a node stopped before serving anything keeps the keys of its previous run
+        if (hotKeys.isEmpty()) {
+            return;
+        }
+        try {
+            hotKeysStore.write(hotKeys);
+        } catch (UncheckedIOException e) {
+            log.warn("Cannot save hot keys", e);
+        }
+    }
+
+    @Override
+    public Health health() {
+        return warm ? Health.up().withDetail("preloaded", preloaded).build() : Health.outOfService().build();
+    }
+
+    private int preload(CachedResource resource, long solutionId, List<String> urls) {
+        switch (resource) {
+            case PAGE:
+                return pageService.preloadPages(urls, solutionId);
+            case CATEGORY:
+                return categoryService.preloadCategories(urls, solutionId);
+            default:
+                throw new IllegalArgumentException("Unknown resource " + resource);
+        }
+    }
+}
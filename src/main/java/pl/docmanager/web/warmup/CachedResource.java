@@ -0,0 +1,5 @@
+package pl.docmanager.web.warmup;
+
+public enum CachedResource {
+    PAGE, CATEGORY
+}
@@ -0,0 +1,37 @@
+package pl.docmanager.web.warmup;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+/**
+ * The most accessed urls of one kind of resource in one solution, most accessed first.
+ */
+public class HotKeys {
+
+    private final CachedResource resource;
+    private final long solutionId;
+    private final List<String> urls;
+
+    @JsonCreator
+    public HotKeys(@JsonProperty("resource") CachedResource resource,
+                   @JsonProperty("solutionId") long solutionId,
+                   @JsonProperty("urls") List<String> urls) {
+        this.resource = resource;
+        this.solutionId = solutionId;
+        this.urls = urls;
+    }
+
+    public CachedResource getResource() {
+        return resource;
+    }
+
+    public long getSolutionId() {
+        return solutionId;
+    }
+
+    public List<String> getUrls() {
+        return urls;
+    }
+}
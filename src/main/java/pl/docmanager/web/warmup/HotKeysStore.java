@@ -0,0 +1,60 @@
+package pl.docmanager.web.warmup;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Keeps the hot keys of a node in a local JSON file between restarts.
+ */
+public class HotKeysStore {
+
+    private static final Logger log = LogManager.getLogger(HotKeysStore.class);
+
+    private final ObjectMapper objectMapper;
+    private final Path file;
+
+    public HotKeysStore(ObjectMapper objectMapper, Path file) {
+        this.objectMapper = objectMapper;
+        this.file = file;
+    }
+
+    public List<HotKeys> read() {
+        if (!Files.exists(file)) {
+            return Collections.emptyList();
+        }
+        try {
+            return objectMapper.readValue(file.toFile(), new TypeReference<List<HotKeys>>() { });
+        } catch (IOException e) {
+            // a node that cannot warm up still starts, only with a cold cache
+            log.warn("Cannot read hot keys from {}", file, e);
+            return Collections.emptyList();
+        }
+    }
+
+    public void write(List<HotKeys> hotKeys) {
+        try {
+            Path directory = file.toAbsolutePath().getParent();
+            Files.createDirectories(directory);
+            Path temporary = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+            try {
+                objectMapper.writeValue(temporary.toFile(), hotKeys);
+                // readers never see a partly written file
+                Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temporary);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot write hot keys to " + file, e);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package pl.docmanager.web.warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import pl.docmanager.web.service.category.CategoryService;
+import pl.docmanager.web.service.page.PageService;
+
+import java.nio.file.Paths;
+
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "docmanager.warmup.enabled", havingValue = "true", matchIfMissing = true)
+public class WarmupConfiguration {
+
+    @Bean
+    public HotKeysStore hotKeysStore(ObjectMapper objectMapper,
+                                     @Value("${docmanager.warmup.file:${java.io.tmpdir}/docmanager-hot-keys.json}")
+                                             String file) {
+        return new HotKeysStore(objectMapper, Paths.get(file));
+    }
+
+    @Bean
+    public CacheWarmer cacheWarmer(AccessStatistics accessStatistics, HotKeysStore hotKeysStore,
+                                   PageService pageService, CategoryService categoryService,
+                                   @Value("${docmanager.warmup.threads:4}") int threads,
+                                   @Value("${docmanager.batch.max-items:100}") int batchSize,
+                                   @Value("${docmanager.warmup.budget-millis:10000}") long budgetMillis) {
+        return new CacheWarmer(accessStatistics, hotKeysStore, pageService, categoryService, threads, batchSize,
+                budgetMillis);
+    }
+}
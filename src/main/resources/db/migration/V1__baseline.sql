@@ -0,0 +1,217 @@
+-- Schema as it existed before migrations were introduced. Databases that already contain it are baselined at
+-- version 1 (spring.flyway.baseline-on-migrate), so this script only runs against empty databases.
+
+CREATE SCHEMA IF NOT EXISTS app;
+CREATE SCHEMA IF NOT EXISTS admin;
+
+CREATE SEQUENCE hibernate_sequence;
+
+CREATE TABLE solution (
+    id bigserial PRIMARY KEY,
+    name varchar(1024) NOT NULL,
+    createdate timestamp NOT NULL,
+    state integer NOT NULL
+);
+
+CREATE TABLE app.usertype (
+    id bigserial PRIMARY KEY,
+    name varchar(256) NOT NULL,
+    description varchar(2048),
+    createdate timestamp NOT NULL,
+    createdby bigint
+);
+
+CREATE TABLE app."user" (
+    id bigserial PRIMARY KEY,
+    solutionid bigint NOT NULL REFERENCES solution (id),
+    email varchar(1024) NOT NULL,
+    password varchar(2048) NOT NULL,
+    joindate timestamp NOT NULL,
+    state integer,
+    createdby bigint REFERENCES app."user" (id),
+    usertype bigint REFERENCES app.usertype (id)
+);
+
+ALTER TABLE app.usertype ADD FOREIGN KEY (createdby) REFERENCES app."user" (id);
+
+CREATE TABLE admin.adminuser (
+    id bigserial PRIMARY KEY,
+    email varchar(1024) NOT NULL,
+    password varchar(2048) NOT NULL,
+    joindate timestamp NOT NULL,
+    state integer NOT NULL
+);
+
+CREATE TABLE usersettings (
+    id bigserial PRIMARY KEY,
+    userid bigint NOT NULL REFERENCES app."user" (id),
+    name varchar(256) NOT NULL,
+    value varchar(1024) NOT NULL,
+    domain varchar(2048)
+);
+
+CREATE TABLE settings (
+    id bigserial PRIMARY KEY,
+    solutionid bigint NOT NULL REFERENCES solution (id),
+    name varchar(256) NOT NULL,
+    value varchar(1024) NOT NULL,
+    domain varchar(2048)
+);
+
+CREATE TABLE page (
+    id bigserial PRIMARY KEY,
+    solutionid bigint NOT NULL REFERENCES solution (id),
+    authorid bigint NOT NULL REFERENCES app."user" (id),
+    name varchar(256) NOT NULL,
+    content text NOT NULL,
+    createdate timestamp NOT NULL,
+    url varchar(256) NOT NULL,
+    state integer NOT NULL
+);
+
+CREATE TABLE pageupdate (
+    id bigserial PRIMARY KEY,
+    pageid bigint NOT NULL REFERENCES page (id),
+    authorid bigint NOT NULL REFERENCES app."user" (id),
+    updatedate timestamp NOT NULL,
+    snapshot text NOT NULL
+);
+
+CREATE TABLE category (
+    id bigserial PRIMARY KEY,
+    solutionid bigint NOT NULL REFERENCES solution (id),
+    authorid bigint NOT NULL REFERENCES app."user" (id),
+    name varchar(256) NOT NULL,
+    createdate timestamp NOT NULL,
+    url varchar(256) NOT NULL,
+    state integer NOT NULL
+);
+
+CREATE TABLE categoryupdate (
+    id bigserial PRIMARY KEY,
+    categoryid bigint NOT NULL REFERENCES category (id),
+    authorid bigint NOT NULL REFERENCES app."user" (id),
+    updatedate timestamp NOT NULL,
+    snapshot text NOT NULL
+);
+
+CREATE TABLE categoryitem (
+    id bigserial PRIMARY KEY,
+    categoryid bigint NOT NULL REFERENCES category (id),
+    contenttype integer NOT NULL,
+    contentpageid bigint REFERENCES page (id),
+    contentcategoryid bigint REFERENCES category (id),
+    "index" integer NOT NULL,
+    state integer NOT NULL
+);
+
+CREATE TABLE notification (
+    id bigint PRIMARY KEY,
+    receiverid bigint NOT NULL REFERENCES app."user" (id),
+    senderid bigint REFERENCES app."user" (id),
+    title varchar(1024) NOT NULL,
+    content text NOT NULL,
+    status integer NOT NULL
+);
+
+CREATE TABLE attachment (
+    id bigserial PRIMARY KEY,
+    solutionid bigint NOT NULL REFERENCES solution (id),
+    authorid bigint NOT NULL REFERENCES app."user" (id),
+    createdate timestamp NOT NULL,
+    contenturl varchar(2048) NOT NULL,
+    url varchar(256) NOT NULL,
+    state integer NOT NULL
+);
+
+CREATE TABLE image (
+    id bigserial PRIMARY KEY,
+    solutionid bigint NOT NULL REFERENCES solution (id),
+    authorid bigint NOT NULL REFERENCES app."user" (id),
+    createdate timestamp NOT NULL,
+    contenturl varchar(2048) NOT NULL,
+    url varchar(256) NOT NULL,
+    state integer NOT NULL
+);
+
+CREATE TABLE permissiontype (
+    id bigserial PRIMARY KEY,
+    name varchar(256) NOT NULL
+);
+
+CREATE TABLE permission (
+    id bigserial PRIMARY KEY,
+    usertypeid bigint REFERENCES app.usertype (id),
+    permissiontypeid bigint REFERENCES permissiontype (id)
+);
+
+CREATE TABLE dashboard (
+    id bigserial PRIMARY KEY,
+    solutionid bigint NOT NULL REFERENCES solution (id),
+    authorid bigint NOT NULL REFERENCES app."user" (id),
+    name varchar(256) NOT NULL,
+    createdate timestamp NOT NULL,
+    url varchar(256) NOT NULL,
+    state integer NOT NULL
+);
+
+CREATE TABLE dashboardupdate (
+    id bigserial PRIMARY KEY,
+    dashboardid bigint NOT NULL REFERENCES dashboard (id),
+    authorid bigint NOT NULL REFERENCES app."user" (id),
+    updatedate timestamp NOT NULL,
+    snapshow text NOT NULL
+);
+
+CREATE TABLE dashboarditem (
+    id bigserial PRIMARY KEY,
+    dashboardid bigint NOT NULL REFERENCES dashboard (id),
+    name varchar(256) NOT NULL,
+    description varchar(4096),
+    icon varchar(2048),
+    targettype integer NOT NULL,
+    targetpageid bigint REFERENCES page (id),
+    targetdashboardid bigint REFERENCES dashboard (id),
+    targetcategoryid bigint REFERENCES category (id),
+    targetattachmentid bigint REFERENCES attachment (id),
+    targetimageid bigint REFERENCES image (id),
+    targetexternalurl varchar(2048),
+    posrow integer NOT NULL,
+    poscol integer NOT NULL,
+    rowspan integer,
+    colspan integer,
+    state integer NOT NULL
+);
+
+CREATE TABLE menu (
+    id bigserial PRIMARY KEY,
+    solutionid bigint NOT NULL REFERENCES solution (id),
+    name varchar(256) NOT NULL,
+    createdby bigint NOT NULL REFERENCES app."user" (id),
+    createdate timestamp NOT NULL,
+    state integer NOT NULL
+);
+
+CREATE TABLE menuitem (
+    id bigserial PRIMARY KEY,
+    menuid bigint NOT NULL REFERENCES menu (id),
+    name varchar(256) NOT NULL,
+    targettype integer NOT NULL,
+    targetmenuid bigint REFERENCES menu (id),
+    targeturl varchar(2048),
+    targetpageid bigint REFERENCES page (id),
+    targetcategoryid bigint REFERENCES category (id),
+    targetdashboardid bigint REFERENCES dashboard (id),
+    targetattachmentid bigint REFERENCES attachment (id),
+    targetimageid bigint REFERENCES image (id),
+    "index" integer NOT NULL,
+    state integer NOT NULL
+);
+
+CREATE TABLE menuupdate (
+    id bigserial PRIMARY KEY,
+    menuid bigint NOT NULL REFERENCES menu (id),
+    authorid bigint NOT NULL REFERENCES app."user" (id),
+    updatedate timestamp NOT NULL,
+    snapshot text NOT NULL
+);
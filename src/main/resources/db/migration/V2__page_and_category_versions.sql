@@ -0,0 +1,3 @@
+-- optimistic locking columns of Page and Category
+ALTER TABLE page ADD COLUMN version bigint NOT NULL DEFAULT 0;
+ALTER TABLE category ADD COLUMN version bigint NOT NULL DEFAULT 0;
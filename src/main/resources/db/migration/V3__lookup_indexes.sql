@@ -0,0 +1,11 @@
+-- Indexes for the predicates of every repository lookup. Pages, categories and settings are addressed by a
+-- solution-scoped key and users log in by email, so those keys are unique as well.
+
+CREATE UNIQUE INDEX page_solutionid_url_uq ON page (solutionid, url);
+CREATE UNIQUE INDEX category_solutionid_url_uq ON category (solutionid, url);
+CREATE UNIQUE INDEX settings_solutionid_name_uq ON settings (solutionid, name);
+CREATE UNIQUE INDEX user_email_uq ON app."user" (email);
+
+-- category items are read per category in display order and per page when its categories change
+CREATE INDEX categoryitem_categoryid_index_idx ON categoryitem (categoryid, "index");
+CREATE INDEX categoryitem_contentpageid_idx ON categoryitem (contentpageid) WHERE contentpageid IS NOT NULL;
@@ -0,0 +1,6 @@
+-- page content is written by CompressedTextConverter: a format byte followed by raw UTF-8 or an LZ4 block.
+-- Existing pages are kept raw and get compressed on their next update.
+ALTER TABLE page ALTER COLUMN content TYPE bytea USING '\x00'::bytea || convert_to(content, 'UTF8');
+
+-- large contents are already compressed, TOAST should store them out of line without compressing them again
+ALTER TABLE page ALTER COLUMN content SET STORAGE EXTERNAL;
@@ -0,0 +1,3 @@
+-- menus and their items are read per solution when a page view is rendered
+CREATE INDEX menu_solutionid_idx ON menu (solutionid);
+CREATE INDEX menuitem_menuid_index_idx ON menuitem (menuid, "index");
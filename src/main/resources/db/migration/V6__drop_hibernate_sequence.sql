@@ -0,0 +1,2 @@
+-- every id is an identity column, the sequence created by the baseline was never used
+DROP SEQUENCE IF EXISTS hibernate_sequence;
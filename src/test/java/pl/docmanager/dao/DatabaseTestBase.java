@@ -0,0 +1,101 @@
+package pl.docmanager.dao;
+
+import org.junit.Before;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit4.SpringRunner;
+import pl.docmanager.domain.category.Category;
+import pl.docmanager.domain.category.CategoryBuilder;
+import pl.docmanager.domain.page.Page;
+import pl.docmanager.domain.page.PageBuilder;
+import pl.docmanager.domain.solution.Solution;
+import pl.docmanager.domain.solution.SolutionBuilder;
+import pl.docmanager.domain.user.User;
+import pl.docmanager.domain.user.UserBuilder;
+import pl.docmanager.web.security.JwtTokenGenerator;
+import pl.docmanager.web.security.SecretKeeper;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+@RunWith(SpringRunner.class)
+@SpringBootTest
+@ActiveProfiles("h2")
+public abstract class DatabaseTestBase {
+
+    protected static final String USER_EMAIL = "user@example.com";
+
+    @Autowired
+    protected EntityManagerFactory entityManagerFactory;
+
+    protected Solution solution;
+    protected User user;
+    protected String validToken;
+
+    @Before
+    public void setup() {
+        // the in-memory database lives as long as the cached application context, so it is seeded only once
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            List<User> users = entityManager.createQuery("select u from User u where u.email = :email", User.class)
+                    .setParameter("email", USER_EMAIL)
+                    .getResultList();
+            if (users.isEmpty()) {
+                solution = persist(new SolutionBuilder(0)
+                        .withName("solution")
+                        .withCreateDate(LocalDateTime.now())
+                        .build());
+                user = persist(new UserBuilder(0, solution)
+                        .withEmail(USER_EMAIL)
+                        .withPassword("password")
+                        .withJoinDate(LocalDateTime.now())
+                        .build());
+            } else {
+                user = users.get(0);
+                solution = user.getSolution();
+            }
+        } finally {
+            entityManager.close();
+        }
+
+        validToken = JwtTokenGenerator.generateToken(USER_EMAIL,
+                SecretKeeper.getInstance().getSecret(), new Date(System.currentTimeMillis() + 1000000000));
+    }
+
+    protected <T> T persist(T entity) {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            entityManager.getTransaction().begin();
+            entityManager.persist(entity);
+            entityManager.getTransaction().commit();
+            return entity;
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    protected Page persistPage() {
+        return persist(new PageBuilder(0, solution)
+                .withAutor(user)
+                .withName("page")
+                .withContent("content")
+                .withCreateDate(LocalDateTime.now())
+                .withUrl("page_" + UUID.randomUUID())
+                .build());
+    }
+
+    protected Category persistCategory() {
+        return persist(new CategoryBuilder(0, solution)
+                .withAuthor(user)
+                .withName("category")
+                .withCreateDate(LocalDateTime.now())
+                .withUrl("category_" + UUID.randomUUID())
+                .build());
+    }
+}
@@ -1,6 +1,6 @@
 package pl.docmanager.dao.category;
 
-import org.assertj.core.util.Maps;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -10,6 +10,8 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.boot.test.mock.mockito.SpyBean;
 import org.springframework.test.context.junit4.SpringRunner;
 import pl.docmanager.dao.exception.EntityValidationException;
+import pl.docmanager.dao.exception.VersionConflictException;
+import pl.docmanager.dao.patch.PatchResult;
 import pl.docmanager.domain.category.CategoryBuilder;
 import pl.docmanager.domain.solution.SolutionBuilder;
 import pl.docmanager.domain.user.UserBuilder;
@@ -17,16 +19,20 @@ import pl.docmanager.domain.category.Category;
 import pl.docmanager.domain.solution.Solution;
 import pl.docmanager.domain.user.User;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -43,6 +49,8 @@ public class CategoryDaoTest {
     @SpyBean
     private CategoryValidator categoryValidator;
 
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
     private Category category1;
     private Category category2;
 
@@ -121,58 +129,93 @@ public class CategoryDaoTest {
 
     @Test
     public void updateCategoryNameTestValid() {
-        Map<String, Object> updatesMap = Maps.newHashMap("name", "newName");
-        updatesMap.put("url", "newUrl");
-        categoryDao.updateCategory(updatesMap, "example_category", 1);
+        CategoryPatch patch = patch("{ \"name\": \"newName\", \"url\": \"newUrl\" }");
+        PatchResult result = categoryDao.updateCategory(patch, "example_category", 1, null);
+        assertTrue(result.isUpdated());
+        assertEquals(category1.getVersion() + 1, result.getVersion());
         verify(categoryRepository, times(1)).save(any());
     }
 
     @Test(expected = EntityValidationException.class)
     public void updateCategoryNameNullTest() {
-        Map<String, Object> updatesMap = Maps.newHashMap("name", null);
-        categoryDao.updateCategory(updatesMap, "example_category", 1);
+        CategoryPatch patch = patch("{ \"name\": null }");
+        categoryDao.updateCategory(patch, "example_category", 1, null);
     }
 
     @Test(expected = EntityValidationException.class)
     public void updateCategoryNameEmptyTest() {
-        Map<String, Object> updatesMap = Maps.newHashMap("name", "");
-        categoryDao.updateCategory(updatesMap, "example_category", 1);
+        CategoryPatch patch = patch("{ \"name\": \"\" }");
+        categoryDao.updateCategory(patch, "example_category", 1, null);
     }
 
     @Test(expected = EntityValidationException.class)
     public void updateCategoryUrlNullTest() {
-        Map<String, Object> updatesMap = Maps.newHashMap("url", null);
-        categoryDao.updateCategory(updatesMap, "example_category", 1);
+        CategoryPatch patch = patch("{ \"url\": null }");
+        categoryDao.updateCategory(patch, "example_category", 1, null);
     }
 
     @Test(expected = EntityValidationException.class)
     public void updateCategoryUrlEmptyTest() {
-        Map<String, Object> updatesMap = Maps.newHashMap("url", "");
-        categoryDao.updateCategory(updatesMap, "example_category", 1);
+        CategoryPatch patch = patch("{ \"url\": \"\" }");
+        categoryDao.updateCategory(patch, "example_category", 1, null);
     }
 
     @Test(expected = EntityValidationException.class)
     public void updateCategoryUrlTestUpdateId() {
-        Map<String, Object> updatesMap = Maps.newHashMap("id", 5);
-        categoryDao.updateCategory(updatesMap, "example_category", 1);
+        CategoryPatch patch = patch("{ \"id\": 5 }");
+        categoryDao.updateCategory(patch, "example_category", 1, null);
     }
 
     @Test(expected = EntityValidationException.class)
     public void updateCategoryUrlTestUpdateCreateDate() {
-        Map<String, Object> updatesMap = Maps.newHashMap("createDate", LocalDateTime.now());
-        categoryDao.updateCategory(updatesMap, "example_category", 1);
+        CategoryPatch patch = patch("{ \"createDate\": \"2018-01-01T00:00:00\" }");
+        categoryDao.updateCategory(patch, "example_category", 1, null);
     }
 
     @Test(expected = EntityValidationException.class)
     public void updateCategoryUrlTestUpdateSolution() {
-        Map<String, Object> updatesMap = Maps.newHashMap("solution", new SolutionBuilder(5).build());
-        categoryDao.updateCategory(updatesMap, "example_category", 1);
+        CategoryPatch patch = patch("{ \"solution\": { \"id\": 5 } }");
+        categoryDao.updateCategory(patch, "example_category", 1, null);
     }
 
     @Test(expected = EntityValidationException.class)
     public void updateCategoryUrlTestUpdateAuthor() {
-        Solution solution = new SolutionBuilder(1).build();
-        Map<String, Object> updatesMap = Maps.newHashMap("solution", new UserBuilder(5, solution).build());
-        categoryDao.updateCategory(updatesMap, "example_category", 1);
+        CategoryPatch patch = patch("{ \"author\": { \"id\": 5 } }");
+        categoryDao.updateCategory(patch, "example_category", 1, null);
+    }
+
+    @Test(expected = VersionConflictException.class)
+    public void updateCategoryTestVersionMismatch() {
+        CategoryPatch patch = patch("{ \"name\": \"newName\" }");
+        categoryDao.updateCategory(patch, "example_category", 1, 3L);
+    }
+
+    @Test
+    public void updateCategoryTestNoChanges() {
+        CategoryPatch patch = patch("{ \"name\": \"exampleCategory\", \"url\": \"example_category\" }");
+        PatchResult result = categoryDao.updateCategory(patch, "example_category", 1, null);
+        assertFalse(result.isUpdated());
+        assertEquals(category1.getVersion(), result.getVersion());
+        verify(categoryRepository, never()).save(any());
+    }
+
+    @Test(expected = EntityValidationException.class)
+    public void updateCategoryTestUnknownField() {
+        CategoryPatch patch = patch("{ \"title\": \"newTitle\" }");
+        categoryDao.updateCategory(patch, "example_category", 1, null);
+    }
+
+    @Test(expected = EntityValidationException.class)
+    public void updateCategoryTestNestedValue() {
+        CategoryPatch patch = patch("{ \"name\": { \"value\": \"newName\" } }");
+        categoryDao.updateCategory(patch, "example_category", 1, null);
+    }
+
+    private CategoryPatch patch(String json) {
+        try {
+            return objectMapper.readValue(json, CategoryPatch.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
-}
\ No newline at end of file
+}
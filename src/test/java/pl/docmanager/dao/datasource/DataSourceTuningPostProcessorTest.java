@@ -0,0 +1,55 @@
+package pl.docmanager.dao.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(SpringRunner.class)
+@SpringBootTest
+public class DataSourceTuningPostProcessorTest {
+
+    @Autowired
+    private DataSource dataSource;
+    @Autowired
+    private DataSourceTuningPostProcessor dataSourceTuningPostProcessor;
+
+    @Test
+    public void tuneTestApplicationDataSource() throws SQLException {
+        HikariDataSource hikariDataSource = dataSource.unwrap(HikariDataSource.class);
+        assertEquals(Runtime.getRuntime().availableProcessors() * 2 + 1, hikariDataSource.getMaximumPoolSize());
+        assertEquals("primaryDataSource", hikariDataSource.getPoolName());
+        assertEquals("1", hikariDataSource.getDataSourceProperties().getProperty("prepareThreshold"));
+        assertEquals("true", hikariDataSource.getDataSourceProperties().getProperty("reWriteBatchedInserts"));
+        assertNotNull(hikariDataSource.getMetricsTrackerFactory());
+    }
+
+    @Test
+    public void tuneTestExplicitPoolSize() {
+        HikariDataSource hikariDataSource = new HikariDataSource();
+        hikariDataSource.setJdbcUrl("jdbc:postgresql://localhost/docmanagerdb");
+        hikariDataSource.setMaximumPoolSize(5);
+        dataSourceTuningPostProcessor.tune(hikariDataSource, "explicit");
+        assertEquals(5, hikariDataSource.getMaximumPoolSize());
+        assertEquals("explicit", hikariDataSource.getPoolName());
+    }
+
+    @Test
+    public void tuneTestOtherDriver() {
+        HikariDataSource hikariDataSource = new HikariDataSource();
+        hikariDataSource.setJdbcUrl("jdbc:h2:mem:tuning");
+        dataSourceTuningPostProcessor.tune(hikariDataSource, "h2");
+        assertTrue(hikariDataSource.getDataSourceProperties().isEmpty());
+        assertFalse(hikariDataSource.getMaximumPoolSize() < 1);
+    }
+}
@@ -0,0 +1,119 @@
+package pl.docmanager.dao.datasource;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+
+import static org.junit.Assert.assertEquals;
+
+public class ReadReplicaRoutingDataSourceTest {
+
+    private DataSource primaryDataSource;
+    private DataSource replicaDataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readWriteTransaction;
+    private TransactionTemplate readOnlyTransaction;
+
+    @Before
+    public void setup() {
+        primaryDataSource = database("primary");
+        replicaDataSource = database("replica");
+        useTracker(new ReadYourWritesTracker(60_000));
+    }
+
+    @After
+    public void cleanup() {
+        SecurityContextHolder.clearContext();
+        new JdbcTemplate(primaryDataSource).execute("DROP ALL OBJECTS");
+        new JdbcTemplate(replicaDataSource).execute("DROP ALL OBJECTS");
+    }
+
+    @Test
+    public void determineCurrentLookupKeyTestReadOnlyTransaction() {
+        assertEquals("replica", readOnlyTransaction.execute(status -> whereAmI()));
+    }
+
+    @Test
+    public void determineCurrentLookupKeyTestReadWriteTransaction() {
+        assertEquals("primary", readWriteTransaction.execute(status -> whereAmI()));
+    }
+
+    @Test
+    public void determineCurrentLookupKeyTestNoTransaction() {
+        assertEquals("primary", whereAmI());
+    }
+
+    @Test
+    public void determineCurrentLookupKeyTestReadYourWrites() {
+        login("writer@example.com");
+        readWriteTransaction.execute(status -> jdbcTemplate.update("UPDATE location SET name = 'written'"));
+        assertEquals("written", readOnlyTransaction.execute(status -> whereAmI()));
+
+        login("reader@example.com");
+        assertEquals("replica", readOnlyTransaction.execute(status -> whereAmI()));
+    }
+
+    @Test
+    public void determineCurrentLookupKeyTestRolledBackWrite() {
+        login("writer@example.com");
+        readWriteTransaction.execute(status -> {
+            jdbcTemplate.update("UPDATE location SET name = 'written'");
+            status.setRollbackOnly();
+            return null;
+        });
+        assertEquals("replica", readOnlyTransaction.execute(status -> whereAmI()));
+    }
+
+    @Test
+    public void determineCurrentLookupKeyTestWindowExpired() {
+        useTracker(new ReadYourWritesTracker(0));
+        login("writer@example.com");
+        readWriteTransaction.execute(status -> jdbcTemplate.update("UPDATE location SET name = 'written'"));
+        sleep(5);
+        assertEquals("replica", readOnlyTransaction.execute(status -> whereAmI()));
+    }
+
+    private void useTracker(ReadYourWritesTracker tracker) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(
+                new ReadReplicaRoutingDataSource(primaryDataSource, replicaDataSource, tracker));
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        readWriteTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    private String whereAmI() {
+        return jdbcTemplate.queryForObject("SELECT name FROM location", String.class);
+    }
+
+    private static void login(String email) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(email, null));
+    }
+
+    private static DataSource database(String name) {
+        DataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:routing_" + name + ";DB_CLOSE_DELAY=-1");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE location (name VARCHAR(20))");
+        jdbcTemplate.update("INSERT INTO location VALUES (?)", name);
+        return dataSource;
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package pl.docmanager.dao.menu;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.junit4.SpringRunner;
+import pl.docmanager.domain.menu.Menu;
+import pl.docmanager.domain.menu.MenuItem;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.BDDMockito.given;
+
+@RunWith(SpringRunner.class)
+@SpringBootTest
+public class MenuDaoTest {
+
+    @Autowired
+    private MenuDao menuDao;
+
+    @MockBean
+    private MenuRepository menuRepository;
+    @MockBean
+    private MenuItemRepository menuItemRepository;
+
+    @Test
+    public void getAllMenusTestValid() {
+        List<Menu> menus = Arrays.asList(new Menu(), new Menu());
+        given(menuRepository.findAllBySolution_Id(1)).willReturn(menus);
+        assertEquals(menus, menuDao.getAllMenus(1));
+    }
+
+    @Test
+    public void getAllMenuItemsTestValid() {
+        List<MenuItem> menuItems = Arrays.asList(new MenuItem(), new MenuItem());
+        given(menuItemRepository.findAllByMenu_Solution_IdOrderByIndex(1)).willReturn(menuItems);
+        assertEquals(menuItems, menuDao.getAllMenuItems(1));
+    }
+
+    @Test
+    public void getAllMenusTestNoMenus() {
+        given(menuRepository.findAllBySolution_Id(2)).willReturn(Arrays.asList());
+        assertTrue(menuDao.getAllMenus(2).isEmpty());
+    }
+}
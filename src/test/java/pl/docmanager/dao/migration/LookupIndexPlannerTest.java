@@ -0,0 +1,93 @@
+package pl.docmanager.dao.migration;
+
+import org.flywaydb.core.Flyway;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Migrates an empty PostgreSQL database and checks that the planner answers every repository lookup from the
+ * indexes created by the migrations. Runs only when -Ddocmanager.test.postgres.url points to a scratch database,
+ * its contents are dropped by the test.
+ */
+public class LookupIndexPlannerTest {
+
+    private static final String URL = System.getProperty("docmanager.test.postgres.url");
+    private static final String USERNAME = System.getProperty("docmanager.test.postgres.username", "postgres");
+    private static final String PASSWORD = System.getProperty("docmanager.test.postgres.password", "postgres");
+
+    @Before
+    public void setup() {
+        assumeTrue("docmanager.test.postgres.url is not set", URL != null);
+
+        Flyway flyway = new Flyway();
+        flyway.setDataSource(URL, USERNAME, PASSWORD);
+        flyway.setSchemas("public", "app", "admin");
+        flyway.clean();
+        flyway.migrate();
+    }
+
+    @Test
+    public void pageBySolutionAndUrlTest() throws SQLException {
+        assertPlanUses("page_solutionid_url_uq",
+                "select * from page where solutionid = 1 and url = 'example_page'");
+    }
+
+    @Test
+    public void pageVersionBySolutionAndUrlTest() throws SQLException {
+        assertPlanUses("page_solutionid_url_uq",
+                "update page set name = 'renamed', version = version + 1 " +
+                        "where solutionid = 1 and url = 'example_page' and version = 3");
+    }
+
+    @Test
+    public void categoryBySolutionAndUrlTest() throws SQLException {
+        assertPlanUses("category_solutionid_url_uq",
+                "select * from category where solutionid = 1 and url = 'example_category'");
+    }
+
+    @Test
+    public void settingsBySolutionAndNameTest() throws SQLException {
+        assertPlanUses("settings_solutionid_name_uq",
+                "select * from settings where solutionid = 1 and name = 'example_settings'");
+    }
+
+    @Test
+    public void userByEmailTest() throws SQLException {
+        assertPlanUses("user_email_uq", "select * from app.\"user\" where email = 'user@example.com'");
+    }
+
+    @Test
+    public void categoryItemsByCategoryTest() throws SQLException {
+        assertPlanUses("categoryitem_categoryid_index_idx", "select * from categoryitem where categoryid = 1");
+    }
+
+    @Test
+    public void categoryItemsByContentPageTest() throws SQLException {
+        assertPlanUses("categoryitem_contentpageid_idx", "select * from categoryitem where contentpageid = 1");
+    }
+
+    private void assertPlanUses(String index, String query) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(URL, USERNAME, PASSWORD);
+             Statement statement = connection.createStatement()) {
+            // the tables are empty, so without this hint a sequential scan would always be the cheapest plan
+            statement.execute("set enable_seqscan = off");
+
+            StringBuilder plan = new StringBuilder();
+            try (ResultSet resultSet = statement.executeQuery("explain " + query)) {
+                while (resultSet.next()) {
+                    plan.append(resultSet.getString(1)).append('\n');
+                }
+            }
+            assertTrue("Expected " + index + " in plan:\n" + plan, plan.toString().contains(index));
+        }
+    }
+}
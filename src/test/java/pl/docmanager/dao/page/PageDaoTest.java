@@ -1,6 +1,6 @@
 package pl.docmanager.dao.page;
 
-import org.assertj.core.util.Maps;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -11,6 +11,8 @@ import org.springframework.boot.test.mock.mockito.SpyBean;
 import org.springframework.test.context.junit4.SpringRunner;
 import pl.docmanager.dao.category.CategoryItemDao;
 import pl.docmanager.dao.exception.EntityValidationException;
+import pl.docmanager.dao.exception.VersionConflictException;
+import pl.docmanager.dao.patch.PatchResult;
 import pl.docmanager.domain.page.Page;
 import pl.docmanager.domain.page.PageBuilder;
 import pl.docmanager.domain.solution.Solution;
@@ -18,16 +20,20 @@ import pl.docmanager.domain.solution.SolutionBuilder;
 import pl.docmanager.domain.user.User;
 import pl.docmanager.domain.user.UserBuilder;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -46,6 +52,8 @@ public class PageDaoTest {
     @SpyBean
     private PageValidator pageValidator;
 
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
     private Page page1;
     private Page page2;
 
@@ -61,6 +69,8 @@ public class PageDaoTest {
                 .withUrl("example_page").build();
 
         given(pageRepository.findBySolution_IdAndUrl(1, "example_page")).willReturn(Optional.of(page1));
+        given(pageRepository.findVersionBySolutionIdAndUrl(1, "example_page"))
+                .willReturn(Optional.of(page1.getVersion()));
 
         Solution solution2 = new SolutionBuilder(2).build();
         User author2 = new UserBuilder(199, solution2).build();
@@ -72,6 +82,8 @@ public class PageDaoTest {
                 .withUrl("example_page").build();
 
         given(pageRepository.findBySolution_IdAndUrl(2, "example_page")).willReturn(Optional.of(page2));
+        given(pageRepository.findVersionBySolutionIdAndUrl(2, "example_page"))
+                .willReturn(Optional.of(page2.getVersion()));
     }
 
     @Test
@@ -108,73 +120,76 @@ public class PageDaoTest {
 
     @Test
     public void updatePageTestValid() {
-        Map<String, Object> updatesMap = Maps.newHashMap("name", "newName");
-        updatesMap.put("url", "newUrl");
-        updatesMap.put("content", "newContent");
-        pageDao.updatePage(updatesMap, "example_page", 1);
-        verify(pageRepository, times(1)).save(any());
+        PagePatch patch = patch("{ \"name\": \"newName\", \"url\": \"newUrl\", \"content\": \"newContent\" }");
+        given(pageRepository.patch(1, "example_page", patch, null)).willReturn(1);
+        given(pageRepository.findVersionBySolutionIdAndUrl(1, "newUrl")).willReturn(Optional.of(1L));
+
+        PatchResult result = pageDao.updatePage(patch, "example_page", 1, null);
+        assertEquals(1, result.getUpdatedRows());
+        assertEquals(1, result.getVersion());
+        verify(pageRepository, never()).findBySolution_IdAndUrl(anyLong(), any());
+        verify(pageRepository, never()).save(any());
     }
 
     @Test(expected = EntityValidationException.class)
     public void updatePageNameNullTest() {
-        Map<String, Object> updatesMap = Maps.newHashMap("name", null);
-        pageDao.updatePage(updatesMap, "example_page", 1);
+        PagePatch patch = patch("{ \"name\": null }");
+        pageDao.updatePage(patch, "example_page", 1, null);
     }
 
     @Test(expected = EntityValidationException.class)
     public void updatePageNameEmptyTest() {
-        Map<String, Object> updatesMap = Maps.newHashMap("name", "");
-        pageDao.updatePage(updatesMap, "example_page", 1);
+        PagePatch patch = patch("{ \"name\": \"\" }");
+        pageDao.updatePage(patch, "example_page", 1, null);
     }
 
     @Test(expected = EntityValidationException.class)
     public void updatePageUrlNullTest() {
-        Map<String, Object> updatesMap = Maps.newHashMap("url", null);
-        pageDao.updatePage(updatesMap, "example_page", 1);
+        PagePatch patch = patch("{ \"url\": null }");
+        pageDao.updatePage(patch, "example_page", 1, null);
     }
 
     @Test(expected = EntityValidationException.class)
     public void updatePageUrlEmptyTest() {
-        Map<String, Object> updatesMap = Maps.newHashMap("url", "");
-        pageDao.updatePage(updatesMap, "example_page", 1);
+        PagePatch patch = patch("{ \"url\": \"\" }");
+        pageDao.updatePage(patch, "example_page", 1, null);
     }
 
     @Test(expected = EntityValidationException.class)
     public void updatePageContentNullTest() {
-        Map<String, Object> updatesMap = Maps.newHashMap("content", null);
-        pageDao.updatePage(updatesMap, "example_page", 1);
+        PagePatch patch = patch("{ \"content\": null }");
+        pageDao.updatePage(patch, "example_page", 1, null);
     }
 
     @Test
     public void updatePageContentEmptyTest() {
-        Map<String, Object> updatesMap = Maps.newHashMap("content", "");
-        pageDao.updatePage(updatesMap, "example_page", 1);
-        verify(pageRepository, times(1)).save(any());
+        PagePatch patch = patch("{ \"content\": \"\" }");
+        pageDao.updatePage(patch, "example_page", 1, null);
+        verify(pageRepository, times(1)).patch(1, "example_page", patch, null);
     }
 
     @Test(expected = EntityValidationException.class)
     public void updatePageUrlTestUpdateId() {
-        Map<String, Object> updatesMap = Maps.newHashMap("id", 5);
-        pageDao.updatePage(updatesMap, "example_page", 1);
+        PagePatch patch = patch("{ \"id\": 5 }");
+        pageDao.updatePage(patch, "example_page", 1, null);
     }
 
     @Test(expected = EntityValidationException.class)
     public void updatePageUrlTestUpdateCreateDate() {
-        Map<String, Object> updatesMap = Maps.newHashMap("createDate", LocalDateTime.now());
-        pageDao.updatePage(updatesMap, "example_page", 1);
+        PagePatch patch = patch("{ \"createDate\": \"2018-01-01T00:00:00\" }");
+        pageDao.updatePage(patch, "example_page", 1, null);
     }
 
     @Test(expected = EntityValidationException.class)
     public void updatePageUrlTestUpdateSolution() {
-        Map<String, Object> updatesMap = Maps.newHashMap("solution", new SolutionBuilder(5).build());
-        pageDao.updatePage(updatesMap, "example_page", 1);
+        PagePatch patch = patch("{ \"solution\": { \"id\": 5 } }");
+        pageDao.updatePage(patch, "example_page", 1, null);
     }
 
     @Test(expected = EntityValidationException.class)
     public void updatePageUrlTestUpdateAuthor() {
-        Solution solution = new SolutionBuilder(1).build();
-        Map<String, Object> updatesMap = Maps.newHashMap("solution", new UserBuilder(5, solution).build());
-        pageDao.updatePage(updatesMap, "example_page", 1);
+        PagePatch patch = patch("{ \"author\": { \"id\": 5 } }");
+        pageDao.updatePage(patch, "example_page", 1, null);
     }
 
     @Test
@@ -197,4 +212,55 @@ public class PageDaoTest {
         Page page = new PageBuilder(1, new Solution()).build();
         pageDao.addPageToCategories(page, null);
     }
-}
\ No newline at end of file
+
+    @Test(expected = VersionConflictException.class)
+    public void updatePageTestVersionMismatch() {
+        PagePatch patch = patch("{ \"name\": \"newName\" }");
+        pageDao.updatePage(patch, "example_page", 1, 3L);
+    }
+
+    @Test
+    public void updatePageTestMatchingVersion() {
+        PagePatch patch = patch("{ \"name\": \"newName\" }");
+        given(pageRepository.patch(1, "example_page", patch, 0L)).willReturn(1);
+
+        PatchResult result = pageDao.updatePage(patch, "example_page", 1, 0L);
+        assertEquals(1, result.getVersion());
+        verify(pageRepository, never()).findVersionBySolutionIdAndUrl(anyLong(), any());
+    }
+
+    @Test
+    public void updatePageTestNoChanges() {
+        PagePatch patch = patch("{ \"name\": \"examplePage\", \"content\": \"exampleContent\" }");
+        PatchResult result = pageDao.updatePage(patch, "example_page", 1, null);
+        assertFalse(result.isUpdated());
+        assertEquals(page1.getVersion(), result.getVersion());
+        verify(pageRepository, never()).findBySolution_IdAndUrl(anyLong(), any());
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void updatePageTestNonExistingPage() {
+        PagePatch patch = patch("{ \"name\": \"newName\" }");
+        pageDao.updatePage(patch, "i_dont_exist", 1, null);
+    }
+
+    @Test(expected = EntityValidationException.class)
+    public void updatePageTestUnknownField() {
+        PagePatch patch = patch("{ \"title\": \"newTitle\" }");
+        pageDao.updatePage(patch, "example_page", 1, null);
+    }
+
+    @Test(expected = EntityValidationException.class)
+    public void updatePageTestNestedValue() {
+        PagePatch patch = patch("{ \"name\": { \"value\": \"newName\" } }");
+        pageDao.updatePage(patch, "example_page", 1, null);
+    }
+
+    private PagePatch patch(String json) {
+        try {
+            return objectMapper.readValue(json, PagePatch.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package pl.docmanager.dao.page;
+
+import org.junit.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import pl.docmanager.dao.DatabaseTestBase;
+import pl.docmanager.domain.page.Page;
+
+import static org.junit.Assert.assertEquals;
+import static pl.docmanager.dao.sql.SqlStatementAssertions.assertMaxStatements;
+
+public class PagePatchRepositoryImplTest extends DatabaseTestBase {
+
+    @Autowired
+    private PageRepository pageRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    public void patchTestSingleStatement() {
+        Page page = persistPage();
+        PagePatch patch = new PagePatch().setName("renamed");
+
+        int updated = assertMaxStatements(1, () -> patch(page, patch, 0L));
+
+        Page patched = pageRepository.findBySolution_IdAndUrl(solution.getId(), page.getUrl()).get();
+        assertEquals(1, updated);
+        assertEquals("renamed", patched.getName());
+        assertEquals("content", patched.getContent());
+        assertEquals(1, patched.getVersion());
+    }
+
+    @Test
+    public void patchTestUrl() {
+        Page page = persistPage();
+        PagePatch patch = new PagePatch().setUrl(page.getUrl() + "_moved").setContent("newContent");
+
+        assertEquals(1, patch(page, patch, null));
+        assertEquals(Long.valueOf(1), pageRepository.findVersionBySolutionIdAndUrl(solution.getId(),
+                page.getUrl() + "_moved").get());
+    }
+
+    @Test
+    public void patchTestVersionMismatch() {
+        Page page = persistPage();
+
+        assertEquals(0, patch(page, new PagePatch().setName("renamed"), 3L));
+        assertEquals("page", pageRepository.findBySolution_IdAndUrl(solution.getId(), page.getUrl()).get().getName());
+    }
+
+    @Test
+    public void patchTestNoChanges() {
+        Page page = persistPage();
+
+        assertEquals(0, patch(page, new PagePatch().setName("page").setContent("content"), null));
+        assertEquals(Long.valueOf(0), pageRepository.findVersionBySolutionIdAndUrl(solution.getId(),
+                page.getUrl()).get());
+    }
+
+    @Test
+    public void patchTestCompressedContent() {
+        Page page = persistPage();
+        StringBuilder content = new StringBuilder();
+        while (content.length() < 100000) {
+            content.append("Lorem ipsum dolor sit amet. ");
+        }
+
+        assertEquals(1, patch(page, new PagePatch().setContent(content.toString()), null));
+        assertEquals(0, patch(page, new PagePatch().setContent(content.toString()), null));
+        assertEquals(content.toString(),
+                pageRepository.findBySolution_IdAndUrl(solution.getId(), page.getUrl()).get().getContent());
+    }
+
+    @Test
+    public void patchTestEmptyPatch() {
+        Page page = persistPage();
+
+        assertEquals(0, (int) assertMaxStatements(0, () -> patch(page, new PagePatch(), null)));
+    }
+
+    @Test
+    public void patchTestMissingPage() {
+        Page page = new Page();
+        page.setUrl("missing_page");
+
+        assertEquals(0, patch(page, new PagePatch().setName("renamed"), null));
+    }
+
+    private int patch(Page page, PagePatch patch, Long expectedVersion) {
+        return new TransactionTemplate(transactionManager).execute(status ->
+                pageRepository.patch(solution.getId(), page.getUrl(), patch, expectedVersion));
+    }
+}
@@ -0,0 +1,32 @@
+package pl.docmanager.dao.sql;
+
+import java.util.function.Supplier;
+
+public final class SqlStatementAssertions {
+
+    private SqlStatementAssertions() { }
+
+    public static <T> T assertMaxStatements(int maxStatements, Supplier<T> action) {
+        SqlStatementStatistics statistics = SqlStatementStatistics.start();
+        T result;
+        try {
+            result = action.get();
+        } finally {
+            SqlStatementStatistics.stop();
+        }
+
+        if (statistics.getStatementCount() > maxStatements) {
+            throw new AssertionError("Expected at most " + maxStatements + " SQL statements, but " +
+                    statistics.getStatementCount() + " were executed:\n  " +
+                    String.join("\n  ", statistics.getStatements()));
+        }
+        return result;
+    }
+
+    public static void assertMaxStatements(int maxStatements, Runnable action) {
+        assertMaxStatements(maxStatements, () -> {
+            action.run();
+            return null;
+        });
+    }
+}
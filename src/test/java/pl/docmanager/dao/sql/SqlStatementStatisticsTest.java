@@ -0,0 +1,49 @@
+package pl.docmanager.dao.sql;
+
+import org.junit.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import pl.docmanager.dao.DatabaseTestBase;
+import pl.docmanager.dao.page.PageDao;
+import pl.docmanager.domain.page.Page;
+
+import static org.junit.Assert.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static pl.docmanager.dao.sql.SqlStatementAssertions.assertMaxStatements;
+
+@AutoConfigureMockMvc
+@TestPropertySource(properties = "docmanager.sql.expose-headers=true")
+public class SqlStatementStatisticsTest extends DatabaseTestBase {
+
+    @Autowired
+    private MockMvc mvc;
+    @Autowired
+    private PageDao pageDao;
+
+    @Test
+    public void getPageByUrlTestStatementCount() {
+        Page page = persistPage();
+        Page found = assertMaxStatements(3, () -> pageDao.getPageByUrl(page.getUrl(), solution.getId()));
+        assertEquals(page.getId(), found.getId());
+    }
+
+    @Test(expected = AssertionError.class)
+    public void assertMaxStatementsTestExceeded() {
+        Page page = persistPage();
+        assertMaxStatements(0, () -> pageDao.getPageByUrl(page.getUrl(), solution.getId()));
+    }
+
+    @Test
+    public void getPageByUrlTestHeaders() throws Exception {
+        Page page = persistPage();
+        mvc.perform(get("/api/pages/solution/" + solution.getId() + "/url/" + page.getUrl())
+                .header("apiToken", validToken))
+                .andExpect(status().isOk())
+                .andExpect(header().string(SqlStatementStatisticsFilter.STATEMENTS_HEADER, "3"))
+                .andExpect(header().exists(SqlStatementStatisticsFilter.TIME_HEADER));
+    }
+}
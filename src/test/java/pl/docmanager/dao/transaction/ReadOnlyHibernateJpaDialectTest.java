@@ -0,0 +1,44 @@
+package pl.docmanager.dao.transaction;
+
+import org.hibernate.Session;
+import org.junit.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import pl.docmanager.dao.DatabaseTestBase;
+import pl.docmanager.dao.page.PageDao;
+import pl.docmanager.domain.page.Page;
+
+import javax.persistence.EntityManager;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class ReadOnlyHibernateJpaDialectTest extends DatabaseTestBase {
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private PageDao pageDao;
+
+    @Test
+    public void beginTransactionTestReadOnly() {
+        Page page = persistPage();
+        assertTrue(loadedAsReadOnly(page, true));
+    }
+
+    @Test
+    public void beginTransactionTestReadWrite() {
+        Page page = persistPage();
+        assertFalse(loadedAsReadOnly(page, false));
+    }
+
+    private boolean loadedAsReadOnly(Page page, boolean readOnlyTransaction) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(readOnlyTransaction);
+        return transactionTemplate.execute(status -> entityManager.unwrap(Session.class)
+                .isReadOnly(pageDao.getPageByUrl(page.getUrl(), solution.getId())));
+    }
+}
@@ -0,0 +1,74 @@
+package pl.docmanager.domain.compression;
+
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class CompressedTextConverterTest {
+
+    private final CompressedTextConverter converter = new CompressedTextConverter();
+
+    @Test
+    public void convertTestSmallTextStoredRaw() {
+        String text = "Short page";
+        byte[] column = converter.convertToDatabaseColumn(text);
+        assertEquals(CompressedTextConverter.FORMAT_RAW, column[0]);
+        assertEquals(text.length() + 1, column.length);
+        assertEquals(text, converter.convertToEntityAttribute(column));
+    }
+
+    @Test
+    public void convertTestLargeTextCompressed() {
+        String text = repeat("Lorem ipsum dolor sit amet, za\u017c\u00f3\u0142\u0107 g\u0119\u015bl\u0105 ja\u017a\u0144. ", 1000);
+        byte[] column = converter.convertToDatabaseColumn(text);
+        assertEquals(CompressedTextConverter.FORMAT_LZ4, column[0]);
+        assertTrue(column.length < text.getBytes(StandardCharsets.UTF_8).length / 10);
+        assertEquals(text, converter.convertToEntityAttribute(column));
+    }
+
+    @Test
+    public void convertTestIncompressibleTextStoredRaw() {
+        StringBuilder text = new StringBuilder();
+        Random random = new Random(7);
+        for (int i = 0; i < 4 * CompressedTextConverter.COMPRESSION_THRESHOLD; i++) {
+            text.append((char) (0x4E00 + random.nextInt(0x5000)));
+        }
+        byte[] column = converter.convertToDatabaseColumn(text.toString());
+        assertEquals(CompressedTextConverter.FORMAT_RAW, column[0]);
+        assertEquals(text.toString(), converter.convertToEntityAttribute(column));
+    }
+
+    @Test
+    public void convertTestEmptyText() {
+        assertEquals("", converter.convertToEntityAttribute(converter.convertToDatabaseColumn("")));
+    }
+
+    @Test
+    public void convertTestNull() {
+        assertNull(converter.convertToDatabaseColumn(null));
+        assertNull(converter.convertToEntityAttribute(null));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void convertTestUnknownFormat() {
+        converter.convertToEntityAttribute(new byte[] {7, 'a'});
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void convertTestMissingFormat() {
+        converter.convertToEntityAttribute(new byte[0]);
+    }
+
+    private static String repeat(String text, int times) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < times; i++) {
+            builder.append(text);
+        }
+        return builder.toString();
+    }
+}
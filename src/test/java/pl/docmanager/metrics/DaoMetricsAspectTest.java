@@ -0,0 +1,80 @@
+package pl.docmanager.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.junit4.SpringRunner;
+import pl.docmanager.dao.exception.EntityValidationException;
+import pl.docmanager.dao.page.PageDao;
+import pl.docmanager.dao.page.PageRepository;
+import pl.docmanager.domain.page.Page;
+import pl.docmanager.domain.page.PageBuilder;
+import pl.docmanager.domain.solution.SolutionBuilder;
+
+import java.util.NoSuchElementException;
+import java.util.Optional;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+import static org.mockito.BDDMockito.given;
+
+@RunWith(SpringRunner.class)
+@SpringBootTest
+public class DaoMetricsAspectTest {
+
+    @Autowired
+    private PageDao pageDao;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @MockBean
+    private PageRepository pageRepository;
+
+    @Before
+    public void setup() {
+        Page page = new PageBuilder(1, new SolutionBuilder(1).build()).withUrl("example_page").build();
+        given(pageRepository.findBySolution_IdAndUrl(1, "example_page")).willReturn(Optional.of(page));
+    }
+
+    @Test
+    public void timeDaoCallTestSuccess() {
+        long before = count("getPageByUrl", Outcome.SUCCESS);
+        pageDao.getPageByUrl("example_page", 1);
+        assertEquals(before + 1, count("getPageByUrl", Outcome.SUCCESS));
+    }
+
+    @Test
+    public void timeDaoCallTestNotFound() {
+        long before = count("getPageByUrl", Outcome.NOT_FOUND);
+        try {
+            pageDao.getPageByUrl("i_dont_exist", 1);
+            fail();
+        } catch (NoSuchElementException e) {
+            assertEquals(before + 1, count("getPageByUrl", Outcome.NOT_FOUND));
+        }
+    }
+
+    @Test
+    public void timeDaoCallTestInvalid() {
+        long before = count("addPage", Outcome.INVALID);
+        try {
+            pageDao.addPage(new PageBuilder(0, null).build());
+            fail();
+        } catch (EntityValidationException e) {
+            assertEquals(before + 1, count("addPage", Outcome.INVALID));
+        }
+    }
+
+    private long count(String method, Outcome outcome) {
+        Timer timer = meterRegistry.find("docmanager.dao")
+                .tags("dao", "PageDao", "method", method)
+                .tags(outcome.asTag().getKey(), outcome.asTag().getValue())
+                .timer();
+        return timer == null ? 0 : timer.count();
+    }
+}
@@ -0,0 +1,47 @@
+package pl.docmanager.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class ProcessMemoryMetricsTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void residentBytesTest() throws IOException {
+        File status = folder.newFile("status");
+        Files.write(status.toPath(), Arrays.asList("Name:\tjava", "VmPeak:\t  4000000 kB", "VmRSS:\t   123456 kB",
+                "Threads:\t42"));
+
+        MeterRegistry registry = new SimpleMeterRegistry();
+        new ProcessMemoryMetrics(status.toPath()).bindTo(registry);
+        assertEquals(123456 * 1024d, registry.get("process.memory.rss").gauge().value(), 0);
+    }
+
+    @Test
+    public void residentBytesTestNoRssLine() throws IOException {
+        File status = folder.newFile("status");
+        Files.write(status.toPath(), Arrays.asList("Name:\tjava", "Threads:\t42"));
+        assertTrue(Double.isNaN(new ProcessMemoryMetrics(status.toPath()).residentBytes()));
+    }
+
+    @Test
+    public void bindToTestNoProcfs() {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        new ProcessMemoryMetrics(new File(folder.getRoot(), "missing").toPath()).bindTo(registry);
+        assertNull(registry.find("process.memory.rss").gauge());
+    }
+}
@@ -0,0 +1,62 @@
+package pl.docmanager.startup;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.support.BeanDefinitionBuilder;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.boot.actuate.health.ApplicationHealthIndicator;
+import pl.docmanager.web.cache.InvalidationBus;
+import pl.docmanager.web.service.batch.BatchLookup;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class LazyBeansPostProcessorTest {
+
+    private DefaultListableBeanFactory beanFactory;
+
+    @Before
+    public void setup() {
+        beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerBeanDefinition("batchLookup", new RootBeanDefinition(BatchLookup.class));
+        beanFactory.registerBeanDefinition("invalidationBus", new RootBeanDefinition(InvalidationBus.class));
+        beanFactory.registerBeanDefinition("healthIndicator", new RootBeanDefinition(ApplicationHealthIndicator.class));
+        beanFactory.registerBeanDefinition("startupConfiguration", new RootBeanDefinition(StartupConfiguration.class));
+        beanFactory.registerBeanDefinition("exitWhenReady", BeanDefinitionBuilder.genericBeanDefinition()
+                .setFactoryMethodOnBean("exitWhenReady", "startupConfiguration").getBeanDefinition());
+
+        RootBeanDefinition infrastructure = new RootBeanDefinition(BatchLookup.class);
+        infrastructure.setRole(BeanDefinition.ROLE_INFRASTRUCTURE);
+        beanFactory.registerBeanDefinition("infrastructure", infrastructure);
+
+        new LazyBeansPostProcessor("invalidationBus").postProcessBeanFactory(beanFactory);
+    }
+
+    @Test
+    public void applicationBeansAreLazy() {
+        assertTrue(beanFactory.getBeanDefinition("batchLookup").isLazyInit());
+        assertTrue(beanFactory.getBeanDefinition("startupConfiguration").isLazyInit());
+    }
+
+    @Test
+    public void beansOfApplicationConfigurationsAreLazy() {
+        assertTrue(beanFactory.getBeanDefinition("exitWhenReady").isLazyInit());
+    }
+
+    @Test
+    public void eagerBeansAreNotLazy() {
+        assertFalse(beanFactory.getBeanDefinition("invalidationBus").isLazyInit());
+    }
+
+    @Test
+    public void frameworkBeansAreNotLazy() {
+        assertFalse(beanFactory.getBeanDefinition("healthIndicator").isLazyInit());
+    }
+
+    @Test
+    public void infrastructureBeansAreNotLazy() {
+        assertFalse(beanFactory.getBeanDefinition("infrastructure").isLazyInit());
+    }
+}
@@ -0,0 +1,29 @@
+package pl.docmanager.web.cache;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class AcceptEncodingTest {
+
+    @Test
+    public void acceptsGzipTest() {
+        assertTrue(AcceptEncoding.acceptsGzip("gzip"));
+        assertTrue(AcceptEncoding.acceptsGzip("deflate, GZIP;q=0.5, br"));
+        assertTrue(AcceptEncoding.acceptsGzip("x-gzip"));
+        assertTrue(AcceptEncoding.acceptsGzip("*"));
+    }
+
+    @Test
+    public void acceptsGzipTestRejected() {
+        assertFalse(AcceptEncoding.acceptsGzip(null));
+        assertFalse(AcceptEncoding.acceptsGzip(""));
+        assertFalse(AcceptEncoding.acceptsGzip("identity"));
+        assertFalse(AcceptEncoding.acceptsGzip("deflate, br"));
+        assertFalse(AcceptEncoding.acceptsGzip("gzip;q=0"));
+        assertFalse(AcceptEncoding.acceptsGzip("*, gzip;q=0.0"));
+        assertFalse(AcceptEncoding.acceptsGzip("*;q=0"));
+        assertFalse(AcceptEncoding.acceptsGzip("gzip;q=abc"));
+    }
+}
@@ -0,0 +1,102 @@
+package pl.docmanager.web.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+
+public class InvalidationBusTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private InMemoryInvalidationTransport transport;
+    private ResponseCache<String> localCache;
+    private ResponseCache<String> remoteCache;
+    private ResponseCache<String> remoteOtherCache;
+
+    @Before
+    public void setup() {
+        transport = new InMemoryInvalidationTransport();
+        localCache = cache(new InvalidationBus(transport), "pages");
+        InvalidationBus remoteBus = new InvalidationBus(transport);
+        remoteCache = cache(remoteBus, "pages");
+        remoteOtherCache = cache(remoteBus, "categories");
+
+        for (ResponseCache<String> cache : Arrays.asList(localCache, remoteCache, remoteOtherCache)) {
+            cache.get("1/first", () -> load("first"));
+            cache.get("1/second", () -> load("second"));
+        }
+    }
+
+    @Test
+    public void evictAfterCommitTestEvictsOnOtherNodes() {
+        localCache.evictAfterCommit("1/first");
+        assertEquals(1, localCache.size());
+        assertEquals(1, remoteCache.size());
+        assertEquals(2, remoteOtherCache.size());
+
+        remoteCache.get("1/second", () -> load("second"));
+        assertEquals(6, loads.get());
+    }
+
+    @Test
+    public void onMessageTestGapClearsAllCaches() {
+        transport.publish(new InvalidationMessage("other-node", 1, "pages", "1/first").format());
+        assertEquals(1, remoteCache.size());
+        assertEquals(2, remoteOtherCache.size());
+
+        transport.publish(new InvalidationMessage("other-node", 3, "pages", "1/second").format());
+        assertEquals(0, remoteCache.size());
+        assertEquals(0, remoteOtherCache.size());
+    }
+
+    @Test
+    public void onMessageTestConsecutiveSequences() {
+        transport.publish(new InvalidationMessage("other-node", 7, "pages", "1/first").format());
+        transport.publish(new InvalidationMessage("other-node", 8, "categories", "1/first").format());
+        assertEquals(1, remoteCache.size());
+        assertEquals(1, remoteOtherCache.size());
+    }
+
+    @Test
+    public void onMessageTestMalformedAndUnknownCacheIgnored() {
+        transport.publish("not a message");
+        transport.publish(new InvalidationMessage("other-node", 1, "settings", "1/first").format());
+        assertEquals(2, remoteCache.size());
+        assertEquals(2, remoteOtherCache.size());
+    }
+
+    @Test
+    public void onResetTestClearsAllCaches() {
+        transport.reset();
+        assertEquals(0, localCache.size());
+        assertEquals(0, remoteCache.size());
+        assertEquals(0, remoteOtherCache.size());
+    }
+
+    @Test
+    public void parseTestKeyWithSeparator() {
+        InvalidationMessage message = InvalidationMessage.parse(
+                new InvalidationMessage("node", 42, "pages", "1/a:b").format());
+        assertEquals("node", message.getOrigin());
+        assertEquals(42, message.getSequence());
+        assertEquals("pages", message.getCache());
+        assertEquals("1/a:b", message.getKey());
+    }
+
+    private ResponseCache<String> cache(InvalidationBus invalidationBus, String name) {
+        ResponseCache<String> cache = new ResponseCache<>(objectMapper, value -> 1L, 10, 60000, 2048);
+        cache.publishEvictionsTo(invalidationBus, name);
+        return cache;
+    }
+
+    private String load(String value) {
+        loads.incrementAndGet();
+        return value;
+    }
+}
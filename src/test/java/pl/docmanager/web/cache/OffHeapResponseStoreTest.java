@@ -0,0 +1,109 @@
+package pl.docmanager.web.cache;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class OffHeapResponseStoreTest {
+
+    private static final long NOW = 1000;
+    private static final long LATER = 2000;
+
+    @Test
+    public void getTestSpansBlocks() {
+        OffHeapResponseStore store = new OffHeapResponseStore(16 * OffHeapResponseStore.BLOCK_SIZE);
+        byte[] json = bytes(3 * OffHeapResponseStore.BLOCK_SIZE + 17, 'j');
+        byte[] gzipJson = bytes(OffHeapResponseStore.BLOCK_SIZE - 5, 'g');
+        assertTrue(store.put("key", new SerializedResponse(json, gzipJson, 7), LATER));
+
+        SerializedResponse response = store.get("key", NOW);
+        assertArrayEquals(json, response.getJson());
+        assertArrayEquals(gzipJson, response.getGzipJson());
+        assertEquals(7, response.getVersion());
+        assertEquals(json.length + gzipJson.length, store.usedBytes());
+    }
+
+    @Test
+    public void getTestWithoutGzip() {
+        OffHeapResponseStore store = new OffHeapResponseStore(OffHeapResponseStore.BLOCK_SIZE);
+        store.put("key", new SerializedResponse(bytes(10, 'j'), null, 1), LATER);
+        assertNull(store.get("key", NOW).getGzipJson());
+    }
+
+    @Test
+    public void getTestExpired() {
+        OffHeapResponseStore store = new OffHeapResponseStore(OffHeapResponseStore.BLOCK_SIZE);
+        store.put("key", new SerializedResponse(bytes(10, 'j'), null, 1), NOW);
+        assertNull(store.get("key", NOW));
+        assertEquals(0, store.size());
+    }
+
+    @Test
+    public void putTestLeastRecentlyUsedEvicted() {
+        OffHeapResponseStore store = new OffHeapResponseStore(4 * OffHeapResponseStore.BLOCK_SIZE);
+        store.put("first", response(2 * OffHeapResponseStore.BLOCK_SIZE, 'a'), LATER);
+        store.put("second", response(OffHeapResponseStore.BLOCK_SIZE, 'b'), LATER);
+        store.get("first", NOW);
+        store.put("third", response(2 * OffHeapResponseStore.BLOCK_SIZE, 'c'), LATER);
+
+        assertNotNull(store.get("first", NOW));
+        assertNull(store.get("second", NOW));
+        assertArrayEquals(bytes(2 * OffHeapResponseStore.BLOCK_SIZE, 'c'), store.get("third", NOW).getJson());
+    }
+
+    @Test
+    public void putTestTooLarge() {
+        OffHeapResponseStore store = new OffHeapResponseStore(2 * OffHeapResponseStore.BLOCK_SIZE);
+        assertFalse(store.put("key", response(2 * OffHeapResponseStore.BLOCK_SIZE + 1, 'a'), LATER));
+        assertEquals(0, store.size());
+    }
+
+    @Test
+    public void putTestReplacesAndReusesBlocks() {
+        OffHeapResponseStore store = new OffHeapResponseStore(2 * OffHeapResponseStore.BLOCK_SIZE);
+        for (char c = 'a'; c <= 'z'; c++) {
+            store.put("key", response(2 * OffHeapResponseStore.BLOCK_SIZE, c), LATER);
+        }
+        assertEquals(1, store.size());
+        assertArrayEquals(bytes(2 * OffHeapResponseStore.BLOCK_SIZE, 'z'), store.get("key", NOW).getJson());
+    }
+
+    @Test
+    public void removeTestFreesBlocks() {
+        OffHeapResponseStore store = new OffHeapResponseStore(2 * OffHeapResponseStore.BLOCK_SIZE);
+        store.put("first", response(OffHeapResponseStore.BLOCK_SIZE, 'a'), LATER);
+        store.put("second", response(OffHeapResponseStore.BLOCK_SIZE, 'b'), LATER);
+        store.remove("first");
+        store.put("third", response(OffHeapResponseStore.BLOCK_SIZE, 'c'), LATER);
+
+        assertNotNull(store.get("second", NOW));
+        assertNotNull(store.get("third", NOW));
+        assertEquals(2 * OffHeapResponseStore.BLOCK_SIZE, store.usedBytes());
+
+        store.clear();
+        assertEquals(0, store.size());
+        assertEquals(0, store.usedBytes());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructorTestCapacityBelowOneBlock() {
+        new OffHeapResponseStore(OffHeapResponseStore.BLOCK_SIZE - 1);
+    }
+
+    private static SerializedResponse response(int length, char fill) {
+        return new SerializedResponse(bytes(length, fill), null, 1);
+    }
+
+    private static byte[] bytes(int length, char fill) {
+        byte[] bytes = new byte[length];
+        Arrays.fill(bytes, (byte) fill);
+        return bytes;
+    }
+}
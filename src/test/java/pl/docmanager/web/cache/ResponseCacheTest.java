@@ -0,0 +1,207 @@
+package pl.docmanager.web.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class ResponseCacheTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    public void getTestCached() {
+        ResponseCache<String> cache = cache(10, 60000);
+        SerializedResponse response = cache.get("key", () -> load("value"));
+        assertSame(response, cache.get("key", () -> load("value")));
+        assertEquals(1, loads.get());
+        assertEquals("\"value\"", new String(response.getJson()));
+        assertEquals(5, response.getVersion());
+    }
+
+    @Test
+    public void getTestSmallResponseNotCompressed() {
+        assertNull(cache(10, 60000).get("key", () -> load("value")).getGzipJson());
+    }
+
+    @Test
+    public void getTestLargeResponseCompressed() throws IOException {
+        String value = String.join("", Collections.nCopies(1000, "Lorem ipsum "));
+        SerializedResponse response = cache(10, 60000).get("key", () -> load(value));
+        assertTrue(response.getGzipJson().length < response.getJson().length);
+
+        try (InputStream json = new GZIPInputStream(new ByteArrayInputStream(response.getGzipJson()))) {
+            assertArrayEquals(response.getJson(), readAll(json));
+        }
+    }
+
+    @Test
+    public void evictTest() {
+        ResponseCache<String> cache = cache(10, 60000);
+        cache.get("key", () -> load("value"));
+        cache.evict("key");
+        cache.get("key", () -> load("value"));
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void evictTestDuringLoad() {
+        ResponseCache<String> cache = cache(10, 60000);
+        cache.get("key", () -> {
+            cache.evict("key");
+            return load("stale");
+        });
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void evictTestDuringLoadNotJoined() {
+        ResponseCache<String> cache = cache(10, 60000);
+        cache.get("key", () -> {
+            cache.evict("key");
+            cache.get("key", () -> load("fresh"));
+            return load("stale");
+        });
+        assertEquals("\"fresh\"", new String(cache.get("key", () -> load("other")).getJson()));
+    }
+
+    @Test
+    public void getTestConcurrentMissesShareOneLoad() throws Exception {
+        ResponseCache<String> cache = cache(10, 60000);
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<SerializedResponse>> responses = new ArrayList<>();
+            responses.add(executor.submit(() -> cache.get("key", () -> {
+                loading.countDown();
+                await(release);
+                return load("value");
+            })));
+            assertTrue(loading.await(5, TimeUnit.SECONDS));
+            for (int i = 0; i < 3; i++) {
+                responses.add(executor.submit(() -> cache.get("key", () -> load("value"))));
+            }
+            Thread.sleep(200);
+            release.countDown();
+
+            for (Future<SerializedResponse> response : responses) {
+                assertSame(responses.get(0).get(5, TimeUnit.SECONDS), response.get(5, TimeUnit.SECONDS));
+            }
+            assertEquals(1, loads.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void getTestServedFromOffHeap() {
+        ResponseCache<String> cache = new ResponseCache<>(objectMapper, value -> 5L, 1, 60000, 2048, 1 << 20);
+        cache.get("first", () -> load("first"));
+        cache.get("second", () -> load("second"));
+        assertEquals(1, cache.size());
+        assertEquals(1, cache.offHeapSize());
+
+        SerializedResponse response = cache.get("first", () -> load("reloaded"));
+        assertEquals("\"first\"", new String(response.getJson()));
+        assertEquals(5, response.getVersion());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void getTestPromotedFromOffHeap() {
+        ResponseCache<String> cache = new ResponseCache<>(objectMapper, value -> 5L, 1, 60000, 2048, 1 << 20);
+        cache.get("first", () -> load("first"));
+        cache.get("second", () -> load("second"));
+
+        SerializedResponse promoted = cache.get("first", () -> load("reloaded"));
+        assertSame(promoted, cache.get("first", () -> load("reloaded")));
+        assertEquals(1, cache.size());
+        assertEquals(1, cache.offHeapSize());
+
+        SerializedResponse response = cache.get("second", () -> load("reloaded"));
+        assertEquals("\"second\"", new String(response.getJson()));
+        assertEquals(1, cache.offHeapSize());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void evictTestOffHeap() {
+        ResponseCache<String> cache = new ResponseCache<>(objectMapper, value -> 5L, 1, 60000, 2048, 1 << 20);
+        cache.get("first", () -> load("first"));
+        cache.get("second", () -> load("second"));
+        cache.evict("first");
+        assertEquals(0, cache.offHeapSize());
+
+        cache.get("first", () -> load("first"));
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    public void getTestExpired() {
+        ResponseCache<String> cache = cache(10, -1);
+        SerializedResponse response = cache.get("key", () -> load("value"));
+        assertNotSame(response, cache.get("key", () -> load("value")));
+    }
+
+    @Test
+    public void getTestLeastRecentlyUsedEvicted() {
+        ResponseCache<String> cache = cache(2, 60000);
+        cache.get("first", () -> load("first"));
+        cache.get("second", () -> load("second"));
+        cache.get("first", () -> load("first"));
+        cache.get("third", () -> load("third"));
+        cache.get("first", () -> load("first"));
+        assertEquals(3, loads.get());
+        assertEquals(2, cache.size());
+    }
+
+    private ResponseCache<String> cache(int maxEntries, long ttlMillis) {
+        return new ResponseCache<>(objectMapper, value -> 5L, maxEntries, ttlMillis, 2048);
+    }
+
+    private String load(String value) {
+        loads.incrementAndGet();
+        return value;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static byte[] readAll(InputStream inputStream) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        byte[] buffer = new byte[4096];
+        int read;
+        while ((read = inputStream.read(buffer)) > 0) {
+            bytes.write(buffer, 0, read);
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,126 @@
+package pl.docmanager.web.cache;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class SingleFlightTest {
+
+    private static final int CALLERS = 8;
+
+    private final SingleFlight<String, String> singleFlight = new SingleFlight<>();
+    private final ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+    private final AtomicInteger loads = new AtomicInteger();
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @After
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void loadTestConcurrentCallersShareOneLoad() throws Exception {
+        List<Future<String>> results = loadConcurrently(() -> "value");
+        release.countDown();
+
+        for (Future<String> result : results) {
+            assertEquals("value", result.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    public void loadTestFailurePropagatesToAllCallers() throws Exception {
+        NoSuchElementException failure = new NoSuchElementException();
+        List<Future<String>> results = loadConcurrently(() -> {
+            throw failure;
+        });
+        release.countDown();
+
+        for (Future<String> result : results) {
+            try {
+                result.get(5, TimeUnit.SECONDS);
+                fail("Expected the load to fail");
+            } catch (ExecutionException e) {
+                assertSame(failure, e.getCause());
+            }
+        }
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    public void loadTestNewLoadAfterCompletion() {
+        singleFlight.load("key", () -> "first");
+        assertEquals("second", singleFlight.load("key", () -> "second"));
+    }
+
+    @Test
+    public void loadTestNewLoadAfterFailure() {
+        try {
+            singleFlight.load("key", () -> {
+                throw new IllegalStateException();
+            });
+            fail("Expected the load to fail");
+        } catch (IllegalStateException e) {
+            assertEquals("value", singleFlight.load("key", () -> "value"));
+        }
+    }
+
+    @Test
+    public void forgetTestCallerStartsNewLoad() throws Exception {
+        Future<String> first = executor.submit(() -> singleFlight.load("key", () -> blockingLoad(() -> "stale")));
+        awaitLoads(1);
+        singleFlight.forget("key");
+
+        assertEquals("fresh", singleFlight.load("key", () -> "fresh"));
+        release.countDown();
+        assertEquals("stale", first.get(5, TimeUnit.SECONDS));
+    }
+
+    private List<Future<String>> loadConcurrently(Supplier<String> value) throws Exception {
+        List<Future<String>> results = new ArrayList<>();
+        results.add(executor.submit(() -> singleFlight.load("key", () -> blockingLoad(value))));
+        awaitLoads(1);
+        for (int i = 1; i < CALLERS; i++) {
+            results.add(executor.submit(() -> singleFlight.load("key", () -> blockingLoad(value))));
+        }
+        // the other callers have no way to signal that they are waiting, give them time to join the running load
+        Thread.sleep(200);
+        return results;
+    }
+
+    private String blockingLoad(Supplier<String> value) {
+        loads.incrementAndGet();
+        try {
+            assertTrue(release.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+        return value.get();
+    }
+
+    private void awaitLoads(int expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (loads.get() < expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(expected, loads.get());
+    }
+}
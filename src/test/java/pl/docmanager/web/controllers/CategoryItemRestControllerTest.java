@@ -13,11 +13,14 @@ import pl.docmanager.domain.solution.SolutionBuilder;
 import pl.docmanager.domain.category.Category;
 import pl.docmanager.domain.category.CategoryItem;
 import pl.docmanager.domain.solution.Solution;
+import pl.docmanager.domain.user.UserBuilder;
 import pl.docmanager.web.service.category.CategoryItemService;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.containsString;
 import static org.mockito.BDDMockito.given;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
@@ -53,6 +56,12 @@ public class CategoryItemRestControllerTest extends RestControllerTestBase {
         given(categoryItemService.getAllByCategoryId(2, validToken))
                 .willReturn(Arrays.asList(categoryItem4, categoryItem5, categoryItem6));
         given(categoryItemService.getAllByCategoryId(3, validToken)).willReturn(new ArrayList<>());
+
+        Category category4 = new CategoryBuilder(4, solution1)
+                .withAuthor(new UserBuilder(99, solution1).withEmail("author@example.com").withPassword("hash").build())
+                .build();
+        given(categoryItemService.getAllByCategoryId(4, validToken))
+                .willReturn(Arrays.asList(new CategoryItemBuilder(7, category4).build()));
     }
 
     @Test
@@ -77,4 +86,15 @@ public class CategoryItemRestControllerTest extends RestControllerTestBase {
                 .andExpect(status().isOk())
                 .andExpect(content().json(expectedJson));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void getAllCategoryItemsByCategoryIdTestAuthorSummary() throws Exception {
+        String expectedJson = "[{id: 7, category: {id: 4, author: {id: 99, email: 'author@example.com'}}}]";
+        mvc.perform(get("/api/category_items/category/4")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("apiToken", validToken))
+                .andExpect(status().isOk())
+                .andExpect(content().json(expectedJson))
+                .andExpect(content().string(not(containsString("password"))));
+    }
+}
@@ -1,31 +1,45 @@
 package pl.docmanager.web.controllers;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.Before;
 import org.junit.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import pl.docmanager.dao.exception.VersionConflictException;
+import pl.docmanager.dao.patch.PatchResult;
 import pl.docmanager.domain.category.CategoryBuilder;
 import pl.docmanager.domain.solution.SolutionBuilder;
 import pl.docmanager.domain.user.UserBuilder;
 import pl.docmanager.domain.category.Category;
 import pl.docmanager.domain.solution.Solution;
 import pl.docmanager.domain.user.User;
+import pl.docmanager.web.cache.SerializedResponse;
+import pl.docmanager.web.response.BatchItem;
+import pl.docmanager.web.response.CategoryResponse;
 import pl.docmanager.web.service.category.CategoryService;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.LocalDateTime;
+import java.util.Arrays;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(CategoryRestController.class)
@@ -34,6 +48,9 @@ public class CategoryRestControllerTest extends RestControllerTestBase {
     @Autowired
     private MockMvc mvc;
 
+    @Autowired
+    private ObjectMapper objectMapper;
+
     @MockBean
     private CategoryService categoryService;
 
@@ -49,7 +66,8 @@ public class CategoryRestControllerTest extends RestControllerTestBase {
                 .withName("exampleCategory")
                 .withUrl("example_category").build();
 
-        given(categoryService.getCategoryByUrl("example_category", 1, validToken)).willReturn(category);
+        given(categoryService.getSerializedCategoryByUrl("example_category", 1, validToken))
+                .willReturn(serialize(category));
 
         Solution solution2 = new SolutionBuilder(2).build();
         User author2 = new UserBuilder(199, solution2).build();
@@ -59,7 +77,32 @@ public class CategoryRestControllerTest extends RestControllerTestBase {
                 .withName("exampleCategory")
                 .withUrl("example_category").build();
 
-        given(categoryService.getCategoryByUrl("example_category", 2, validToken)).willReturn(category2);
+        given(categoryService.getSerializedCategoryByUrl("example_category", 2, validToken))
+                .willReturn(serialize(category2));
+        given(categoryService.updateCategory(any(), any(), anyLong(), any(), any())).willReturn(new PatchResult(1, 1L));
+    }
+
+    @Test
+    public void getCategoriesTestByIds() throws Exception {
+        Category category = new CategoryBuilder(4, new SolutionBuilder(1).build()).withUrl("example_category").build();
+        given(categoryService.getCategoriesByIds(Arrays.asList(4L, 5L), 1, validToken))
+                .willReturn(Arrays.asList(new BatchItem<>(4L, new CategoryResponse(category)),
+                        new BatchItem<>(5L, null)));
+
+        mvc.perform(get("/api/categories/solution/1/batch?id=4&id=5")
+                .header("apiToken", validToken))
+                .andExpect(status().isOk())
+                .andExpect(content().json("[{key: 4, found: true, value: {id: 4, url: 'example_category'}}, " +
+                        "{key: 5, found: false}]"));
+    }
+
+    @Test
+    public void getCategoriesTestNoKeys() throws Exception {
+        mvc.perform(get("/api/categories/solution/1/batch")
+                .header("apiToken", validToken))
+                .andExpect(status().isBadRequest());
+        verify(categoryService, never()).getCategoriesByUrls(any(), anyLong(), any());
+        verify(categoryService, never()).getCategoriesByIds(any(), anyLong(), any());
     }
 
     @Test
@@ -71,6 +114,8 @@ public class CategoryRestControllerTest extends RestControllerTestBase {
                 .contentType(MediaType.APPLICATION_JSON)
                 .header("apiToken", validToken))
                 .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"0\""))
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON_UTF8))
                 .andExpect(content().json(expectedJson));
     }
 
@@ -109,6 +154,72 @@ public class CategoryRestControllerTest extends RestControllerTestBase {
                 .andDo(print())
                 .andExpect(status().is(HttpStatus.OK.value()));
         verify(categoryService, times(1))
-                .updateCategory(any(), any(), eq(1L), eq(validToken));
+                .updateCategory(any(), any(), eq(1L), isNull(), eq(validToken));
+    }
+
+    @Test
+    public void updateCategoryTestIfMatch() throws Exception {
+        given(categoryService.updateCategory(any(), any(), eq(1L), eq(3L), eq(validToken)))
+                .willReturn(new PatchResult(1, 4L));
+        mvc.perform(patch("/api/categories/solution/1/url/example_category")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{ \"name\": \"changedCategoryName\" }")
+                .header("apiToken", validToken)
+                .header(HttpHeaders.IF_MATCH, "\"3\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"4\""));
+        verify(categoryService, times(1))
+                .updateCategory(any(), any(), eq(1L), eq(3L), eq(validToken));
+    }
+
+    @Test
+    public void updateCategoryTestWeakIfMatch() throws Exception {
+        mvc.perform(patch("/api/categories/solution/1/url/example_category")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{ \"name\": \"changedCategoryName\" }")
+                .header("apiToken", validToken)
+                .header(HttpHeaders.IF_MATCH, "W/\"3\""))
+                .andExpect(status().isPreconditionFailed());
+        verify(categoryService, never()).updateCategory(any(), any(), anyLong(), any(), any());
+    }
+
+    @Test
+    public void updateCategoryTestVersionConflict() throws Exception {
+        given(categoryService.updateCategory(any(), any(), eq(1L), eq(3L), eq(validToken)))
+                .willThrow(new VersionConflictException("Category example_category is at version 4, expected 3"));
+        mvc.perform(patch("/api/categories/solution/1/url/example_category")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{ \"name\": \"changedCategoryName\" }")
+                .header("apiToken", validToken)
+                .header(HttpHeaders.IF_MATCH, "\"3\""))
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    @Test
+    public void updateCategoryTestUnknownField() throws Exception {
+        mvc.perform(patch("/api/categories/solution/1/url/example_category")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{ \"title\": \"changedCategoryTitle\" }")
+                .header("apiToken", validToken))
+                .andExpect(status().isBadRequest());
+        verify(categoryService, never()).updateCategory(any(), any(), anyLong(), any(), any());
+    }
+
+    @Test
+    public void updateCategoryTestImmutableField() throws Exception {
+        mvc.perform(patch("/api/categories/solution/1/url/example_category")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{ \"id\": 5 }")
+                .header("apiToken", validToken))
+                .andExpect(status().isBadRequest());
+        verify(categoryService, never()).updateCategory(any(), any(), anyLong(), any(), any());
+    }
+
+    private SerializedResponse serialize(Category category) {
+        try {
+            return SerializedResponse.of(objectMapper.writeValueAsBytes(new CategoryResponse(category)), category.getVersion(), 2048);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
-}
\ No newline at end of file
+}
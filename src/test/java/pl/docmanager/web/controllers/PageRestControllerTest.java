@@ -1,31 +1,50 @@
 package pl.docmanager.web.controllers;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.Before;
 import org.junit.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import pl.docmanager.dao.exception.VersionConflictException;
+import pl.docmanager.dao.patch.PatchResult;
 import pl.docmanager.domain.page.PageBuilder;
 import pl.docmanager.domain.solution.SolutionBuilder;
 import pl.docmanager.domain.user.UserBuilder;
 import pl.docmanager.domain.page.Page;
 import pl.docmanager.domain.solution.Solution;
 import pl.docmanager.domain.user.User;
+import pl.docmanager.web.cache.SerializedResponse;
+import pl.docmanager.web.response.BatchItem;
+import pl.docmanager.web.response.PageResponse;
 import pl.docmanager.web.service.page.PageService;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.zip.GZIPInputStream;
 
+import static org.junit.Assert.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(PageRestController.class)
@@ -34,6 +53,9 @@ public class PageRestControllerTest extends RestControllerTestBase {
     @Autowired
     private MockMvc mvc;
 
+    @Autowired
+    private ObjectMapper objectMapper;
+
     @MockBean
     private PageService pageService;
 
@@ -50,7 +72,9 @@ public class PageRestControllerTest extends RestControllerTestBase {
                 .withContent("exampleContent")
                 .withUrl("example_page").build();
 
-        given(pageService.getPageByUrl("example_page", 1, validToken)).willReturn(page);
+        given(pageService.getSerializedPageByUrl("example_page", 1, validToken))
+                .willReturn(serialize(page));
+        given(pageService.updatePage(any(), any(), anyLong(), any(), any())).willReturn(new PatchResult(1, 1));
     }
 
     @Test
@@ -106,6 +130,170 @@ public class PageRestControllerTest extends RestControllerTestBase {
             .andDo(print())
             .andExpect(status().is(HttpStatus.OK.value()));
         verify(pageService, times(1))
-                .updatePage(any(), any(), eq(1L), eq(validToken));
+                .updatePage(any(), any(), eq(1L), isNull(), eq(validToken));
+    }
+
+    @Test
+    public void getPageBySolutionIdAndUrlTestETag() throws Exception {
+        mvc.perform(get("/api/pages/solution/1/url/example_page")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("apiToken", validToken))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"0\""));
+    }
+
+    @Test
+    public void getPageBySolutionIdAndUrlTestGzip() throws Exception {
+        Page page = new PageBuilder(2, new SolutionBuilder(1).build())
+                .withName("largePage")
+                .withContent(String.join("", Collections.nCopies(1000, "Lorem ipsum dolor sit amet. ")))
+                .withUrl("large_page").build();
+        given(pageService.getSerializedPageByUrl("large_page", 1, validToken))
+                .willReturn(serialize(page));
+
+        byte[] gzipJson = mvc.perform(get("/api/pages/solution/1/url/large_page")
+                .header("apiToken", validToken)
+                .header(HttpHeaders.ACCEPT_ENCODING, "deflate, gzip;q=0.8"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"0-gzip\""))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        try (InputStream json = new GZIPInputStream(new ByteArrayInputStream(gzipJson))) {
+            assertEquals("largePage", objectMapper.readValue(json, Page.class).getName());
+        }
+    }
+
+    @Test
+    public void getPageBySolutionIdAndUrlTestGzipNotAccepted() throws Exception {
+        mvc.perform(get("/api/pages/solution/1/url/example_page")
+                .header("apiToken", validToken)
+                .header(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"0\""))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING));
+    }
+
+    @Test
+    public void updatePageTestIfMatch() throws Exception {
+        given(pageService.updatePage(any(), any(), eq(1L), eq(3L), eq(validToken))).willReturn(new PatchResult(1, 4));
+        mvc.perform(patch("/api/pages/solution/1/url/example_page")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{ \"name\": \"changedPageName\" }")
+                .header("apiToken", validToken)
+                .header(HttpHeaders.IF_MATCH, "\"3\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"4\""));
+        verify(pageService, times(1))
+                .updatePage(any(), any(), eq(1L), eq(3L), eq(validToken));
+    }
+
+    @Test
+    public void updatePageTestGzipIfMatch() throws Exception {
+        given(pageService.updatePage(any(), any(), eq(1L), eq(3L), eq(validToken))).willReturn(new PatchResult(1, 4L));
+        mvc.perform(patch("/api/pages/solution/1/url/example_page")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{ \"name\": \"changedPageName\" }")
+                .header("apiToken", validToken)
+                .header(HttpHeaders.IF_MATCH, "\"3-gzip\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"4\""));
+    }
+
+    @Test
+    public void updatePageTestNoIfMatchETag() throws Exception {
+        given(pageService.updatePage(any(), any(), eq(1L), isNull(), eq(validToken))).willReturn(new PatchResult(1, 7));
+        mvc.perform(patch("/api/pages/solution/1/url/example_page")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{ \"name\": \"changedPageName\" }")
+                .header("apiToken", validToken))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"7\""));
+    }
+
+    @Test
+    public void updatePageTestMalformedIfMatch() throws Exception {
+        mvc.perform(patch("/api/pages/solution/1/url/example_page")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{ \"name\": \"changedPageName\" }")
+                .header("apiToken", validToken)
+                .header(HttpHeaders.IF_MATCH, "\"abc\""))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void updatePageTestVersionConflict() throws Exception {
+        given(pageService.updatePage(any(), any(), eq(1L), eq(3L), eq(validToken)))
+                .willThrow(new VersionConflictException("Page example_page is at version 4, expected 3"));
+        mvc.perform(patch("/api/pages/solution/1/url/example_page")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{ \"name\": \"changedPageName\" }")
+                .header("apiToken", validToken)
+                .header(HttpHeaders.IF_MATCH, "\"3\""))
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    @Test
+    public void updatePageTestUnknownField() throws Exception {
+        mvc.perform(patch("/api/pages/solution/1/url/example_page")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{ \"title\": \"changedPageTitle\" }")
+                .header("apiToken", validToken))
+                .andExpect(status().isBadRequest());
+        verify(pageService, never()).updatePage(any(), any(), anyLong(), any(), any());
+    }
+
+    @Test
+    public void updatePageTestImmutableField() throws Exception {
+        mvc.perform(patch("/api/pages/solution/1/url/example_page")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{ \"id\": 5 }")
+                .header("apiToken", validToken))
+                .andExpect(status().isBadRequest());
+        verify(pageService, never()).updatePage(any(), any(), anyLong(), any(), any());
+    }
+
+    @Test
+    public void getPagesTestByUrls() throws Exception {
+        Page page = new PageBuilder(1, new SolutionBuilder(1).build()).withUrl("example_page").build();
+        given(pageService.getPagesByUrls(Arrays.asList("example_page", "missing"), 1, validToken))
+                .willReturn(Arrays.asList(new BatchItem<>("example_page", new PageResponse(page)),
+                        new BatchItem<>("missing", null)));
+
+        mvc.perform(get("/api/pages/solution/1/batch?url=example_page&url=missing")
+                .header("apiToken", validToken))
+                .andExpect(status().isOk())
+                .andExpect(content().json("[{key: 'example_page', found: true, value: {id: 1, url: 'example_page'}}, " +
+                        "{key: 'missing', found: false, value: null}]"));
+    }
+
+    @Test
+    public void getPagesTestByIds() throws Exception {
+        given(pageService.getPagesByIds(Arrays.asList(3L, 1L), 1, validToken))
+                .willReturn(Collections.emptyList());
+
+        mvc.perform(get("/api/pages/solution/1/batch?id=3&id=1")
+                .header("apiToken", validToken))
+                .andExpect(status().isOk());
+        verify(pageService, times(1)).getPagesByIds(Arrays.asList(3L, 1L), 1, validToken);
+    }
+
+    @Test
+    public void getPagesTestUrlsAndIds() throws Exception {
+        mvc.perform(get("/api/pages/solution/1/batch?url=example_page&id=1")
+                .header("apiToken", validToken))
+                .andExpect(status().isBadRequest());
+        verify(pageService, never()).getPagesByUrls(any(), anyLong(), any());
+        verify(pageService, never()).getPagesByIds(any(), anyLong(), any());
+    }
+
+    private SerializedResponse serialize(Page page) {
+        try {
+            return SerializedResponse.of(objectMapper.writeValueAsBytes(new PageResponse(page)), page.getVersion(), 2048);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
-}
\ No newline at end of file
+}
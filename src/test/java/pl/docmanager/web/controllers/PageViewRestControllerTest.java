@@ -0,0 +1,83 @@
+package pl.docmanager.web.controllers;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import pl.docmanager.domain.category.CategoryBuilder;
+import pl.docmanager.domain.global.SettingsBuilder;
+import pl.docmanager.domain.page.PageBuilder;
+import pl.docmanager.domain.solution.Solution;
+import pl.docmanager.domain.solution.SolutionBuilder;
+import pl.docmanager.web.response.CategoryResponse;
+import pl.docmanager.web.response.PageResponse;
+import pl.docmanager.web.response.PageViewResponse;
+import pl.docmanager.web.response.SettingsResponse;
+import pl.docmanager.web.service.page.PageViewService;
+import pl.docmanager.web.service.page.PageViewTimeoutException;
+
+import java.util.Collections;
+import java.util.NoSuchElementException;
+import java.util.concurrent.TimeoutException;
+
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(PageViewRestController.class)
+public class PageViewRestControllerTest extends RestControllerTestBase {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @MockBean
+    private PageViewService pageViewService;
+
+    @Before
+    public void setup() {
+        super.setup();
+
+        Solution solution = new SolutionBuilder(1).build();
+        PageViewResponse pageView = new PageViewResponse(
+                new PageResponse(new PageBuilder(1, solution).withName("examplePage").withUrl("example_page").build()),
+                Collections.singletonList(new CategoryResponse(new CategoryBuilder(2, solution).withUrl("example_category").build())),
+                Collections.emptyList(),
+                Collections.singletonList(new SettingsResponse(new SettingsBuilder(3, solution).withName("theme").build())));
+
+        given(pageViewService.getPageView("example_page", 1, validToken)).willReturn(pageView);
+        given(pageViewService.getPageView("i_dont_exist", 1, validToken)).willThrow(new NoSuchElementException());
+        given(pageViewService.getPageView("slow_page", 1, validToken))
+                .willThrow(new PageViewTimeoutException("Page view of slow_page timed out", new TimeoutException()));
+    }
+
+    @Test
+    public void getPageViewTestValid() throws Exception {
+        String expectedJson = "{page: {id: 1, name: 'examplePage', url: 'example_page'}, " +
+                "categories: [{id: 2, url: 'example_category'}], menus: [], settings: [{id: 3, name: 'theme'}]}";
+        mvc.perform(get("/api/page_views/solution/1/url/example_page")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("apiToken", validToken))
+                .andExpect(status().isOk())
+                .andExpect(content().json(expectedJson));
+    }
+
+    @Test
+    public void getPageViewTestNonExistingPage() throws Exception {
+        mvc.perform(get("/api/page_views/solution/1/url/i_dont_exist")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("apiToken", validToken))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    public void getPageViewTestTimeout() throws Exception {
+        mvc.perform(get("/api/page_views/solution/1/url/slow_page")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("apiToken", validToken))
+                .andExpect(status().isServiceUnavailable());
+    }
+}
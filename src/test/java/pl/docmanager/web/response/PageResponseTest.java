@@ -0,0 +1,62 @@
+package pl.docmanager.web.response;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import pl.docmanager.domain.page.Page;
+import pl.docmanager.domain.page.PageBuilder;
+import pl.docmanager.domain.solution.Solution;
+import pl.docmanager.domain.solution.SolutionBuilder;
+import pl.docmanager.domain.user.User;
+import pl.docmanager.domain.user.UserBuilder;
+import pl.docmanager.domain.user.UserType;
+
+import java.time.LocalDateTime;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+
+public class PageResponseTest {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    @Test
+    public void serializeTestAuthorSummary() throws Exception {
+        Solution solution = new SolutionBuilder(1).withName("exampleSolution").build();
+        User admin = new UserBuilder(1, solution).withEmail("admin@example.com").withPassword("adminHash").build();
+        User author = new UserBuilder(99, solution)
+                .withEmail("author@example.com")
+                .withPassword("$2a$10$abcdefghijklmnopqrstuv")
+                .withCreatedBy(admin)
+                .withUserType(new UserType())
+                .build();
+        Page page = new PageBuilder(1, solution)
+                .withAutor(author)
+                .withName("examplePage")
+                .withContent("exampleContent")
+                .withCreateDate(LocalDateTime.of(1970, 1, 1, 0, 0))
+                .withUrl("example_page")
+                .build();
+
+        String json = objectMapper.writeValueAsString(new PageResponse(page));
+        JsonNode node = objectMapper.readTree(json);
+        assertEquals(99, node.get("author").get("id").asLong());
+        assertEquals("author@example.com", node.get("author").get("email").asText());
+        assertEquals(2, node.get("author").size());
+        assertEquals("exampleSolution", node.get("solution").get("name").asText());
+        assertFalse(json.contains("password"));
+        assertFalse(json.contains("Hash"));
+        assertFalse(json.contains("$2a$"));
+    }
+
+    @Test
+    public void serializeTestNoAuthor() throws Exception {
+        Page page = new PageBuilder(1, new SolutionBuilder(1).build()).withUrl("example_page").build();
+        JsonNode node = objectMapper.readTree(objectMapper.writeValueAsBytes(new PageResponse(page)));
+        assertNull(PageResponse.of(null));
+        assertEquals("example_page", node.get("url").asText());
+        assertEquals(true, node.get("author").isNull());
+    }
+}
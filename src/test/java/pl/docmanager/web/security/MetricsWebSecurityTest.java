@@ -0,0 +1,56 @@
+package pl.docmanager.web.security;
+
+import org.junit.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import pl.docmanager.dao.DatabaseTestBase;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@AutoConfigureMockMvc
+@TestPropertySource(properties = "docmanager.metrics.scrape.password={noop}secret")
+public class MetricsWebSecurityTest extends DatabaseTestBase {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Test
+    public void prometheusTestScrapeUser() throws Exception {
+        mvc.perform(get(MetricsWebSecurity.PROMETHEUS_PATH).header("Authorization", basic("prometheus", "secret")))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    public void prometheusTestNoCredentials() throws Exception {
+        mvc.perform(get(MetricsWebSecurity.PROMETHEUS_PATH))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    public void prometheusTestWrongPassword() throws Exception {
+        mvc.perform(get(MetricsWebSecurity.PROMETHEUS_PATH).header("Authorization", basic("prometheus", "wrong")))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    public void prometheusTestApiToken() throws Exception {
+        mvc.perform(get(MetricsWebSecurity.PROMETHEUS_PATH).header("apiToken", validToken))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    public void healthTestPublic() throws Exception {
+        mvc.perform(get("/actuator/health"))
+                .andExpect(status().isOk());
+    }
+
+    private static String basic(String username, String password) {
+        return "Basic " + Base64.getEncoder().encodeToString((username + ":" + password).getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,52 @@
+package pl.docmanager.web.server;
+
+import org.junit.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+public class ReadOnlyApiFilterTest {
+
+    private final ReadOnlyApiFilter filter = new ReadOnlyApiFilter();
+
+    @Test
+    public void doFilterTestRead() throws Exception {
+        MockFilterChain chain = filter("GET", "/api/pages/solution/1/url/example_page");
+        assertNotNull(chain.getRequest());
+    }
+
+    @Test
+    public void doFilterTestLogin() throws Exception {
+        MockFilterChain chain = filter("POST", ReadOnlyApiFilter.LOGIN_PATH);
+        assertNotNull(chain.getRequest());
+    }
+
+    @Test
+    public void doFilterTestWrite() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("PATCH", "/api/pages/solution/1/url/example_page");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(request, response, chain);
+
+        assertNull(chain.getRequest());
+        assertEquals(HttpStatus.METHOD_NOT_ALLOWED.value(), response.getStatus());
+        assertEquals("GET, HEAD, OPTIONS", response.getHeader("Allow"));
+    }
+
+    @Test
+    public void doFilterTestWriteOutsideApi() throws Exception {
+        MockFilterChain chain = filter("POST", "/actuator/health");
+        assertNotNull(chain.getRequest());
+    }
+
+    private MockFilterChain filter(String method, String uri) throws Exception {
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(new MockHttpServletRequest(method, uri), new MockHttpServletResponse(), chain);
+        return chain;
+    }
+}
@@ -0,0 +1,30 @@
+package pl.docmanager.web.server;
+
+import org.junit.Test;
+
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class VirtualThreadsTest {
+
+    @Test
+    public void newThreadPerTaskExecutorTest() throws Exception {
+        Optional<ExecutorService> executor = VirtualThreads.newThreadPerTaskExecutor("test-vt-");
+        if (!VirtualThreads.isSupported()) {
+            assertFalse(executor.isPresent());
+            return;
+        }
+
+        try {
+            Thread thread = executor.get().submit(Thread::currentThread).get();
+            assertTrue((Boolean) Thread.class.getMethod("isVirtual").invoke(thread));
+            assertEquals("test-vt-0", thread.getName());
+        } finally {
+            executor.get().shutdown();
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package pl.docmanager.web.service.batch;
+
+import org.junit.Test;
+import pl.docmanager.dao.exception.EntityValidationException;
+import pl.docmanager.web.response.BatchItem;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class BatchLookupTest {
+
+    private final BatchLookup batchLookup = new BatchLookup(3);
+
+    @Test
+    public void distinctKeysTestDuplicates() {
+        Set<String> keys = batchLookup.distinctKeys(Arrays.asList("b", "a", "b"));
+        assertEquals(Arrays.asList("b", "a"), new ArrayList<>(keys));
+    }
+
+    @Test(expected = EntityValidationException.class)
+    public void distinctKeysTestEmpty() {
+        batchLookup.distinctKeys(Collections.emptyList());
+    }
+
+    @Test(expected = EntityValidationException.class)
+    public void distinctKeysTestNull() {
+        batchLookup.distinctKeys(null);
+    }
+
+    @Test(expected = EntityValidationException.class)
+    public void distinctKeysTestNullKey() {
+        batchLookup.distinctKeys(Arrays.asList("a", null));
+    }
+
+    @Test(expected = EntityValidationException.class)
+    public void distinctKeysTestTooManyKeys() {
+        batchLookup.distinctKeys(Arrays.asList("a", "b", "c", "d"));
+    }
+
+    @Test
+    public void inRequestOrderTestMissingAndDuplicateKeys() {
+        List<BatchItem<String>> items = batchLookup.inRequestOrder(Arrays.asList("c", "a", "x", "c"),
+                Arrays.asList("a", "c"), value -> value, String::toUpperCase);
+
+        assertEquals(4, items.size());
+        assertEquals("c", items.get(0).getKey());
+        assertEquals("C", items.get(0).getValue());
+        assertEquals("A", items.get(1).getValue());
+        assertFalse(items.get(2).isFound());
+        assertNull(items.get(2).getValue());
+        assertTrue(items.get(3).isFound());
+        assertEquals("C", items.get(3).getValue());
+    }
+}
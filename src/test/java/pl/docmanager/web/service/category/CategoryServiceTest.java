@@ -1,7 +1,6 @@
 package pl.docmanager.web.service.category;
 
 import io.jsonwebtoken.SignatureException;
-import org.assertj.core.util.Maps;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -10,18 +9,34 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.context.junit4.SpringRunner;
 import pl.docmanager.dao.category.CategoryDao;
+import pl.docmanager.dao.category.CategoryPatch;
+import pl.docmanager.dao.exception.EntityValidationException;
+import pl.docmanager.dao.patch.PatchResult;
 import pl.docmanager.domain.category.CategoryBuilder;
 import pl.docmanager.domain.solution.SolutionBuilder;
 import pl.docmanager.domain.user.UserBuilder;
 import pl.docmanager.domain.category.Category;
 import pl.docmanager.domain.solution.Solution;
+import pl.docmanager.web.cache.CategoryResponseCache;
+import pl.docmanager.web.cache.SerializedResponse;
+import pl.docmanager.web.response.BatchItem;
+import pl.docmanager.web.response.CategoryResponse;
 import pl.docmanager.web.security.AccessValidationException;
 import pl.docmanager.web.security.JwtTokenGenerator;
 import pl.docmanager.web.service.ServiceTestBase;
+import pl.docmanager.web.warmup.AccessStatistics;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Date;
-import java.util.Map;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.NoSuchElementException;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -33,16 +48,48 @@ public class CategoryServiceTest extends ServiceTestBase {
     @Autowired
     private CategoryService categoryService;
 
+    @Autowired
+    private CategoryResponseCache categoryResponseCache;
+
+    @Autowired
+    private AccessStatistics accessStatistics;
+
     @MockBean
     private CategoryDao categoryDao;
 
     @Before
     public void setup() {
         super.setup();
+        categoryResponseCache.clear();
         Solution solution1 = new SolutionBuilder(1).build();
         given(categoryDao.getCategoryById(1)).willReturn(new CategoryBuilder(1, solution1).build());
     }
 
+    @Test
+    public void getCategoriesByIdsTestValid() {
+        Solution solution = new SolutionBuilder(1).build();
+        given(categoryDao.getCategoriesByIds(new LinkedHashSet<>(Arrays.asList(3L, 4L, 2L)), 1))
+                .willReturn(Arrays.asList(new CategoryBuilder(2, solution).build(), new CategoryBuilder(3, solution).build()));
+
+        List<BatchItem<CategoryResponse>> items =
+                categoryService.getCategoriesByIds(Arrays.asList(3L, 4L, 2L), 1, validToken);
+        assertEquals(3, items.size());
+        assertEquals(3, items.get(0).getValue().getId());
+        assertFalse(items.get(1).isFound());
+        assertEquals(4L, items.get(1).getKey());
+        assertEquals(2, items.get(2).getValue().getId());
+    }
+
+    @Test(expected = EntityValidationException.class)
+    public void getCategoriesByUrlsTestEmptyUrls() {
+        categoryService.getCategoriesByUrls(Collections.emptyList(), 1, validToken);
+    }
+
+    @Test(expected = AccessValidationException.class)
+    public void getCategoriesByUrlsTestNoAccessToSolution() {
+        categoryService.getCategoriesByUrls(Arrays.asList("category"), 2, validToken);
+    }
+
     @Test
     public void getCategoryByIdTestValid() {
         categoryService.getCategoryById(1, 1, validToken);
@@ -76,6 +123,18 @@ public class CategoryServiceTest extends ServiceTestBase {
         verify(categoryDao, times(1)).getCategoryByUrl("example_category", 1);
     }
 
+    @Test
+    public void getSerializedCategoryByUrlTestNotFoundNotRecorded() {
+        given(categoryDao.getCategoryByUrl("i_dont_exist", 1)).willThrow(new NoSuchElementException());
+        try {
+            categoryService.getSerializedCategoryByUrl("i_dont_exist", 1, validToken);
+            fail();
+        } catch (NoSuchElementException e) {
+            assertFalse(accessStatistics.topKeys().stream()
+                    .anyMatch(hotKeys -> hotKeys.getUrls().contains("i_dont_exist")));
+        }
+    }
+
     @Test(expected = IllegalArgumentException.class)
     public void getCategoryByUrlTestNullApiToken() {
         categoryService.getCategoryByUrl("example_category", 1, null);
@@ -97,6 +156,47 @@ public class CategoryServiceTest extends ServiceTestBase {
         categoryService.getCategoryByUrl("example_category", 2, validToken);
     }
 
+    @Test
+    public void getSerializedCategoryByUrlTestCached() {
+        Category category = new CategoryBuilder(1, new SolutionBuilder(1).build()).withUrl("example_category").build();
+        given(categoryDao.getCategoryByUrl("example_category", 1)).willReturn(category);
+
+        SerializedResponse response = categoryService.getSerializedCategoryByUrl("example_category", 1, validToken);
+        assertSame(response, categoryService.getSerializedCategoryByUrl("example_category", 1, validToken));
+        verify(categoryDao, times(1)).getCategoryByUrl("example_category", 1);
+    }
+
+    @Test(expected = AccessValidationException.class)
+    public void getSerializedCategoryByUrlTestNoAccessToSolution() {
+        categoryService.getSerializedCategoryByUrl("example_category", 2, validToken);
+    }
+
+    @Test
+    public void updateCategoryTestEvictsCachedCategory() {
+        Category category = new CategoryBuilder(1, new SolutionBuilder(1).build()).withUrl("example_category").build();
+        CategoryPatch patch = new CategoryPatch().setName("newName");
+        given(categoryDao.getCategoryByUrl("example_category", 1)).willReturn(category);
+        given(categoryDao.updateCategory(patch, "example_category", 1, null)).willReturn(new PatchResult(1, 1L));
+
+        categoryService.getSerializedCategoryByUrl("example_category", 1, validToken);
+        categoryService.updateCategory(patch, "example_category", 1, null, validToken);
+        categoryService.getSerializedCategoryByUrl("example_category", 1, validToken);
+        verify(categoryDao, times(2)).getCategoryByUrl("example_category", 1);
+    }
+
+    @Test
+    public void updateCategoryTestNoChangesKeepsCachedCategory() {
+        Category category = new CategoryBuilder(1, new SolutionBuilder(1).build()).withUrl("example_category").build();
+        CategoryPatch patch = new CategoryPatch().setName("sameName");
+        given(categoryDao.getCategoryByUrl("example_category", 1)).willReturn(category);
+        given(categoryDao.updateCategory(patch, "example_category", 1, null)).willReturn(new PatchResult(0, 0L));
+
+        categoryService.getSerializedCategoryByUrl("example_category", 1, validToken);
+        categoryService.updateCategory(patch, "example_category", 1, null, validToken);
+        categoryService.getSerializedCategoryByUrl("example_category", 1, validToken);
+        verify(categoryDao, times(1)).getCategoryByUrl("example_category", 1);
+    }
+
     @Test
     public void addCategoryTestValid() {
         Solution solution = new SolutionBuilder(1).build();
@@ -162,28 +262,30 @@ public class CategoryServiceTest extends ServiceTestBase {
 
     @Test
     public void updateCategoryTestValid() {
-        Map<String, Object> updatesMap = Maps.newHashMap("name", "newName");
-        updatesMap.put("url", "newUrl");
-        categoryService.updateCategory(updatesMap, "example_category", 1, validToken);
-        verify(categoryDao, times(1)).updateCategory(updatesMap, "example_category", 1);
+        CategoryPatch patch = new CategoryPatch()
+                .setName("newName")
+                .setUrl("newUrl");
+        given(categoryDao.updateCategory(patch, "example_category", 1, null)).willReturn(new PatchResult(1, 1L));
+        categoryService.updateCategory(patch, "example_category", 1, null, validToken);
+        verify(categoryDao, times(1)).updateCategory(patch, "example_category", 1, null);
     }
 
     @Test(expected = IllegalArgumentException.class)
     public void updateCategoryTestNullApiToken() {
-        Map<String, Object> updatesMap = Maps.newHashMap("name", "newName");
-        categoryService.updateCategory(updatesMap, "example_category", 1, null);
+        CategoryPatch patch = new CategoryPatch().setName("newName");
+        categoryService.updateCategory(patch, "example_category", 1, null, null);
     }
 
     @Test(expected = IllegalArgumentException.class)
     public void updateCategoryTestEmptyApiToken() {
-        Map<String, Object> updatesMap = Maps.newHashMap("name", "newName");
-        categoryService.updateCategory(updatesMap, "example_category", 1, "");
+        CategoryPatch patch = new CategoryPatch().setName("newName");
+        categoryService.updateCategory(patch, "example_category", 1, null, "");
     }
 
     @Test(expected = SignatureException.class)
     public void updateCategoryTestWrongApiToken() {
         String invalidToken = JwtTokenGenerator.generateToken(USER_EMAIL, "invalidSecret", new Date(System.currentTimeMillis() + 1000000000));
-        Map<String, Object> updatesMap = Maps.newHashMap("name", "newName");
-        categoryService.updateCategory(updatesMap, "example_category", 1, invalidToken);
+        CategoryPatch patch = new CategoryPatch().setName("newName");
+        categoryService.updateCategory(patch, "example_category", 1, null, invalidToken);
     }
 }
\ No newline at end of file
@@ -0,0 +1,107 @@
+package pl.docmanager.web.service.page;
+
+import org.junit.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import pl.docmanager.dao.DatabaseTestBase;
+import pl.docmanager.domain.page.Page;
+import pl.docmanager.domain.page.PageBuilder;
+import pl.docmanager.domain.user.User;
+import pl.docmanager.domain.user.UserBuilder;
+import pl.docmanager.domain.user.UserType;
+import pl.docmanager.web.response.BatchItem;
+import pl.docmanager.web.response.PageResponse;
+import pl.docmanager.web.security.AccessValidationException;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static pl.docmanager.dao.sql.SqlStatementAssertions.assertMaxStatements;
+
+public class PageServiceBatchTest extends DatabaseTestBase {
+
+    @Autowired
+    private PageService pageService;
+
+    @Test
+    public void getPagesByUrlsTestSingleQuery() {
+        Page page1 = persistPage();
+        Page page2 = persistPage();
+        List<String> urls = Arrays.asList(page2.getUrl(), "i_dont_exist", page1.getUrl());
+
+        // requester and its solution, then one IN query for all pages with their authors
+        List<BatchItem<PageResponse>> items =
+                assertMaxStatements(3, () -> pageService.getPagesByUrls(urls, solution.getId(), validToken));
+
+        assertEquals(3, items.size());
+        assertEquals(page2.getId(), items.get(0).getValue().getId());
+        assertEquals(user.getEmail(), items.get(0).getValue().getAuthor().getEmail());
+        assertFalse(items.get(1).isFound());
+        assertEquals("i_dont_exist", items.get(1).getKey());
+        assertEquals(page1.getId(), items.get(2).getValue().getId());
+    }
+
+    @Test
+    public void getPagesByIdsTestSingleQuery() {
+        Page page1 = persistPage();
+        Page page2 = persistPage();
+        List<Long> ids = Arrays.asList(page1.getId(), -1L, page2.getId());
+
+        List<BatchItem<PageResponse>> items =
+                assertMaxStatements(3, () -> pageService.getPagesByIds(ids, solution.getId(), validToken));
+
+        assertTrue(items.get(0).isFound());
+        assertFalse(items.get(1).isFound());
+        assertEquals(page2.getUrl(), items.get(2).getValue().getUrl());
+    }
+
+    @Test
+    public void getPagesByUrlsTestOtherAuthorsSingleQuery() {
+        // the authors' own links point to a user and a user type not loaded by the request yet
+        User admin = persistUser(null, null);
+        UserType userType = new UserType();
+        userType.setName("editor");
+        userType.setCreateDate(LocalDateTime.now());
+        userType.setCreatedBy(admin);
+        persist(userType);
+        Page page1 = persistPage(persistUser(admin, userType));
+        Page page2 = persistPage(persistUser(admin, userType));
+        List<String> urls = Arrays.asList(page1.getUrl(), page2.getUrl());
+
+        List<BatchItem<PageResponse>> items =
+                assertMaxStatements(3, () -> pageService.getPagesByUrls(urls, solution.getId(), validToken));
+
+        assertEquals(page1.getAuthor().getEmail(), items.get(0).getValue().getAuthor().getEmail());
+        assertEquals(page2.getAuthor().getEmail(), items.get(1).getValue().getAuthor().getEmail());
+    }
+
+    @Test(expected = AccessValidationException.class)
+    public void getPagesByUrlsTestNoAccessToSolution() {
+        Page page = persistPage();
+        pageService.getPagesByUrls(Arrays.asList(page.getUrl()), solution.getId() + 1000, validToken);
+    }
+
+    private User persistUser(User createdBy, UserType userType) {
+        return persist(new UserBuilder(0, solution)
+                .withEmail("author_" + UUID.randomUUID() + "@example.com")
+                .withPassword("password")
+                .withJoinDate(LocalDateTime.now())
+                .withCreatedBy(createdBy)
+                .withUserType(userType)
+                .build());
+    }
+
+    private Page persistPage(User author) {
+        return persist(new PageBuilder(0, solution)
+                .withAutor(author)
+                .withName("page")
+                .withContent("content")
+                .withCreateDate(LocalDateTime.now())
+                .withUrl("page_" + UUID.randomUUID())
+                .build());
+    }
+}
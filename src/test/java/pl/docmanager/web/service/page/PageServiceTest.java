@@ -1,7 +1,6 @@
 package pl.docmanager.web.service.page;
 
 import io.jsonwebtoken.SignatureException;
-import org.assertj.core.util.Maps;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -9,25 +8,42 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.context.junit4.SpringRunner;
+import pl.docmanager.dao.exception.EntityValidationException;
 import pl.docmanager.dao.page.PageDao;
+import pl.docmanager.dao.page.PagePatch;
+import pl.docmanager.dao.patch.PatchResult;
 import pl.docmanager.domain.page.PageBuilder;
 import pl.docmanager.domain.page.wrapper.PageWithCategories;
 import pl.docmanager.domain.solution.SolutionBuilder;
 import pl.docmanager.domain.user.UserBuilder;
 import pl.docmanager.domain.page.Page;
 import pl.docmanager.domain.solution.Solution;
+import pl.docmanager.web.cache.PageResponseCache;
+import pl.docmanager.web.cache.SerializedResponse;
+import pl.docmanager.web.response.BatchItem;
+import pl.docmanager.web.response.PageResponse;
 import pl.docmanager.web.security.AccessValidationException;
 import pl.docmanager.web.security.JwtTokenGenerator;
 import pl.docmanager.web.service.ServiceTestBase;
+import pl.docmanager.web.warmup.AccessStatistics;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Date;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Map;
+import java.util.NoSuchElementException;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -38,12 +54,19 @@ public class PageServiceTest extends ServiceTestBase {
     @Autowired
     private PageService pageService;
 
+    @Autowired
+    private PageResponseCache pageResponseCache;
+
+    @Autowired
+    private AccessStatistics accessStatistics;
+
     @MockBean
     private PageDao pageDao;
 
     @Before
     public void setup() {
         super.setup();
+        pageResponseCache.clear();
     }
 
     @Test
@@ -52,6 +75,18 @@ public class PageServiceTest extends ServiceTestBase {
         verify(pageDao, times(1)).getPageByUrl("example_page", 1);
     }
 
+    @Test
+    public void getSerializedPageByUrlTestNotFoundNotRecorded() {
+        given(pageDao.getPageByUrl("i_dont_exist", 1)).willThrow(new NoSuchElementException());
+        try {
+            pageService.getSerializedPageByUrl("i_dont_exist", 1, validToken);
+            fail();
+        } catch (NoSuchElementException e) {
+            assertFalse(accessStatistics.topKeys().stream()
+                    .anyMatch(hotKeys -> hotKeys.getUrls().contains("i_dont_exist")));
+        }
+    }
+
     @Test(expected = IllegalArgumentException.class)
     public void getPageByUrlTestNullApiToken() {
         pageService.getPageByUrl("example_page", 1, null);
@@ -73,6 +108,68 @@ public class PageServiceTest extends ServiceTestBase {
         pageService.getPageByUrl("example_page", 2, validToken);
     }
 
+    @Test
+    public void getSerializedPageByUrlTestCached() {
+        Page page = new PageBuilder(1, new SolutionBuilder(1).build()).withUrl("example_page").build();
+        given(pageDao.getPageByUrl("example_page", 1)).willReturn(page);
+
+        SerializedResponse response = pageService.getSerializedPageByUrl("example_page", 1, validToken);
+        assertSame(response, pageService.getSerializedPageByUrl("example_page", 1, validToken));
+        verify(pageDao, times(1)).getPageByUrl("example_page", 1);
+    }
+
+    @Test(expected = AccessValidationException.class)
+    public void getSerializedPageByUrlTestNoAccessToSolution() {
+        pageService.getSerializedPageByUrl("example_page", 2, validToken);
+    }
+
+    @Test
+    public void getPagesByUrlsTestValid() {
+        Solution solution = new SolutionBuilder(1).build();
+        Page page1 = new PageBuilder(1, solution).withUrl("page1").build();
+        Page page2 = new PageBuilder(2, solution).withUrl("page2").build();
+        given(pageDao.getPagesByUrls(new LinkedHashSet<>(Arrays.asList("page2", "missing", "page1")), 1))
+                .willReturn(Arrays.asList(page1, page2));
+
+        List<BatchItem<PageResponse>> items =
+                pageService.getPagesByUrls(Arrays.asList("page2", "missing", "page1", "page2"), 1, validToken);
+        assertEquals(4, items.size());
+        assertEquals(2, items.get(0).getValue().getId());
+        assertFalse(items.get(1).isFound());
+        assertEquals(1, items.get(2).getValue().getId());
+        assertEquals(2, items.get(3).getValue().getId());
+        verify(pageDao, times(1)).getPagesByUrls(any(), eq(1L));
+    }
+
+    @Test(expected = EntityValidationException.class)
+    public void getPagesByIdsTestTooManyIds() {
+        pageService.getPagesByIds(Collections.nCopies(101, 1L), 1, validToken);
+    }
+
+    @Test
+    public void getPagesByIdsTestNoAccessToSolution() {
+        try {
+            pageService.getPagesByIds(Arrays.asList(1L, 2L), 2, validToken);
+        } catch (AccessValidationException e) {
+            verify(pageDao, never()).getPagesByIds(any(), anyLong());
+            return;
+        }
+        throw new AssertionError("Expected AccessValidationException");
+    }
+
+    @Test
+    public void updatePageTestEvictsCachedPage() {
+        Page page = new PageBuilder(1, new SolutionBuilder(1).build()).withUrl("example_page").build();
+        PagePatch patch = new PagePatch().setName("newName");
+        given(pageDao.getPageByUrl("example_page", 1)).willReturn(page);
+        given(pageDao.updatePage(patch, "example_page", 1, null)).willReturn(new PatchResult(1, 1));
+
+        pageService.getSerializedPageByUrl("example_page", 1, validToken);
+        pageService.updatePage(patch, "example_page", 1, null, validToken);
+        pageService.getSerializedPageByUrl("example_page", 1, validToken);
+        verify(pageDao, times(2)).getPageByUrl("example_page", 1);
+    }
+
     @Test
     public void addPageTestValid() {
         Solution solution = new SolutionBuilder(1).build();
@@ -182,29 +279,31 @@ public class PageServiceTest extends ServiceTestBase {
 
     @Test
     public void updatePageTestValid() {
-        Map<String, Object> updatesMap = Maps.newHashMap("name", "newName");
-        updatesMap.put("url", "newUrl");
-        updatesMap.put("content", "newContent");
-        pageService.updatePage(updatesMap, "example_page", 1, validToken);
-        verify(pageDao, times(1)).updatePage(updatesMap, "example_page", 1);
+        PagePatch patch = new PagePatch()
+                .setName("newName")
+                .setUrl("newUrl")
+                .setContent("newContent");
+        given(pageDao.updatePage(patch, "example_page", 1, null)).willReturn(new PatchResult(1, 1));
+        pageService.updatePage(patch, "example_page", 1, null, validToken);
+        verify(pageDao, times(1)).updatePage(patch, "example_page", 1, null);
     }
 
     @Test(expected = IllegalArgumentException.class)
     public void updatePageTestNullApiToken() {
-        Map<String, Object> updatesMap = Maps.newHashMap("name", "newName");
-        pageService.updatePage(updatesMap, "example_page", 1, null);
+        PagePatch patch = new PagePatch().setName("newName");
+        pageService.updatePage(patch, "example_page", 1, null, null);
     }
 
     @Test(expected = IllegalArgumentException.class)
     public void updatePageTestEmptyApiToken() {
-        Map<String, Object> updatesMap = Maps.newHashMap("name", "newName");
-        pageService.updatePage(updatesMap, "example_page", 1, "");
+        PagePatch patch = new PagePatch().setName("newName");
+        pageService.updatePage(patch, "example_page", 1, null, "");
     }
 
     @Test(expected = SignatureException.class)
     public void updatePageTestWrongApiToken() {
         String invalidToken = JwtTokenGenerator.generateToken(USER_EMAIL, "invalidSecret", new Date(System.currentTimeMillis() + 1000000000));
-        Map<String, Object> updatesMap = Maps.newHashMap("name", "newName");
-        pageService.updatePage(updatesMap, "example_page", 1, invalidToken);
+        PagePatch patch = new PagePatch().setName("newName");
+        pageService.updatePage(patch, "example_page", 1, null, invalidToken);
     }
 }
\ No newline at end of file
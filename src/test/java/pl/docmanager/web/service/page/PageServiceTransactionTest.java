@@ -0,0 +1,79 @@
+package pl.docmanager.web.service.page;
+
+import org.junit.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import pl.docmanager.dao.DatabaseTestBase;
+import pl.docmanager.dao.category.CategoryItemDao;
+import pl.docmanager.dao.page.PageRepository;
+import pl.docmanager.dao.sql.SqlStatementStatistics;
+import pl.docmanager.domain.category.CategoryItem;
+import pl.docmanager.domain.page.Page;
+import pl.docmanager.domain.page.PageBuilder;
+import pl.docmanager.domain.page.wrapper.PageWithCategories;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class PageServiceTransactionTest extends DatabaseTestBase {
+
+    @Autowired
+    private PageService pageService;
+    @Autowired
+    private PageRepository pageRepository;
+    @Autowired
+    private CategoryItemDao categoryItemDao;
+
+    @Test
+    public void addPageTestSingleTransaction() {
+        List<Long> categoriesIds = Arrays.asList(persistCategory().getId(), persistCategory().getId(),
+                persistCategory().getId());
+        Page page = newPage();
+
+        SqlStatementStatistics statistics = SqlStatementStatistics.start();
+        try {
+            pageService.addPage(new PageWithCategories(page, categoriesIds), validToken);
+        } finally {
+            SqlStatementStatistics.stop();
+        }
+
+        // requester and its solution, page insert, current category items and one insert per category item;
+        // H2 fetches every generated id with an additional call
+        long statements = statistics.getStatements().stream()
+                .filter(statement -> !statement.endsWith("call identity()"))
+                .count();
+        assertEquals(1, statistics.getCommitCount());
+        assertTrue(statistics.getStatements().toString(), statements <= 4 + categoriesIds.size());
+
+        Page saved = pageRepository.findBySolution_IdAndUrl(solution.getId(), page.getUrl()).get();
+        List<CategoryItem> categoryItems = categoryItemDao.getAllByContentPageId(saved.getId());
+        assertEquals(categoriesIds.size(), categoryItems.size());
+    }
+
+    @Test
+    public void addPageTestRollbackOnFailure() {
+        List<Long> categoriesIds = Arrays.asList(persistCategory().getId(), Long.MAX_VALUE);
+        Page page = newPage();
+
+        try {
+            pageService.addPage(new PageWithCategories(page, categoriesIds), validToken);
+            fail();
+        } catch (DataIntegrityViolationException e) {
+            assertFalse(pageRepository.findBySolution_IdAndUrl(solution.getId(), page.getUrl()).isPresent());
+        }
+    }
+
+    private Page newPage() {
+        return new PageBuilder(0, solution)
+                .withName("page")
+                .withContent("content")
+                .withUrl("page_" + UUID.randomUUID())
+                .build();
+    }
+}
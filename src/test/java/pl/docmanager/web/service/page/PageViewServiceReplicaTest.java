@@ -0,0 +1,81 @@
+package pl.docmanager.web.service.page;
+
+import org.junit.After;
+import org.junit.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import pl.docmanager.dao.DatabaseTestBase;
+import pl.docmanager.dao.sql.SqlStatementStatisticsFilter;
+import pl.docmanager.domain.page.Page;
+import pl.docmanager.domain.user.User;
+import pl.docmanager.domain.user.UserBuilder;
+import pl.docmanager.web.security.JwtTokenGenerator;
+import pl.docmanager.web.security.SecretKeeper;
+
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.UUID;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// the replica is an empty database, every lookup routed to it fails
+@AutoConfigureMockMvc
+@TestPropertySource(properties = {
+        "docmanager.datasource.replica.url=jdbc:h2:mem:docmanager_test_replica;DB_CLOSE_DELAY=-1",
+        "docmanager.datasource.replica.read-your-writes-millis=60000",
+        "docmanager.sql.expose-headers=true"
+})
+public class PageViewServiceReplicaTest extends DatabaseTestBase {
+
+    @Autowired
+    private MockMvc mvc;
+    @Autowired
+    private PageViewService pageViewService;
+
+    @After
+    public void cleanup() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    public void getPageViewTestReadsOwnWriteFromPrimary() throws Exception {
+        Page page = persistPage();
+        mvc.perform(patch("/api/pages/solution/" + solution.getId() + "/url/" + page.getUrl())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{ \"name\": \"written\" }")
+                .header("apiToken", validToken))
+                .andExpect(status().isOk());
+
+        mvc.perform(get("/api/page_views/solution/" + solution.getId() + "/url/" + page.getUrl())
+                .header("apiToken", validToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.page.name").value("written"))
+                .andExpect(header().string(SqlStatementStatisticsFilter.STATEMENTS_HEADER, "8"));
+    }
+
+    @Test(expected = DataAccessException.class)
+    public void getPageViewTestWithoutRecentWriteReadsReplica() {
+        Page page = persistPage();
+        User reader = persist(new UserBuilder(0, solution)
+                .withEmail("reader_" + UUID.randomUUID() + "@example.com")
+                .withPassword("password")
+                .withJoinDate(LocalDateTime.now())
+                .build());
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(reader.getEmail(), null));
+
+        String readerToken = JwtTokenGenerator.generateToken(reader.getEmail(),
+                SecretKeeper.getInstance().getSecret(), new Date(System.currentTimeMillis() + 1000000));
+        pageViewService.getPageView(page.getUrl(), solution.getId(), readerToken);
+    }
+}
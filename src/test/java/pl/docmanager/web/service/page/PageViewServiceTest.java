@@ -0,0 +1,170 @@
+package pl.docmanager.web.service.page;
+
+import org.junit.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import pl.docmanager.dao.DatabaseTestBase;
+import pl.docmanager.dao.category.CategoryItemDao;
+import pl.docmanager.dao.menu.MenuDao;
+import pl.docmanager.dao.page.PageDao;
+import pl.docmanager.dao.settings.SettingsDao;
+import pl.docmanager.domain.category.Category;
+import pl.docmanager.domain.category.CategoryItemBuilder;
+import pl.docmanager.domain.category.CategoryItemContentType;
+import pl.docmanager.domain.global.SettingsBuilder;
+import pl.docmanager.domain.menu.Menu;
+import pl.docmanager.domain.menu.MenuItem;
+import pl.docmanager.domain.menu.MenuItemState;
+import pl.docmanager.domain.menu.MenuItemTargetType;
+import pl.docmanager.domain.menu.MenuState;
+import pl.docmanager.domain.page.Page;
+import pl.docmanager.web.response.CategoryResponse;
+import pl.docmanager.web.response.MenuResponse;
+import pl.docmanager.web.response.PageViewResponse;
+import pl.docmanager.web.security.AccessValidationException;
+import pl.docmanager.web.security.AccessValidator;
+import pl.docmanager.web.security.ApiTokenDecoder;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+public class PageViewServiceTest extends DatabaseTestBase {
+
+    @Autowired
+    private PageViewService pageViewService;
+
+    @Autowired
+    private AccessValidator accessValidator;
+
+    @Autowired
+    private ApiTokenDecoder apiTokenDecoder;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    public void getPageViewTestValid() {
+        Page page = persistPage();
+        Category category1 = persistCategory();
+        Category category2 = persistCategory();
+        persistCategoryItem(category1, page);
+        persistCategoryItem(category2, page);
+
+        Menu menu = persistMenu();
+        persistMenuItem(menu, 1, page, null);
+        persistMenuItem(menu, 0, null, "https://example.com");
+
+        String settingsName = "settings_" + UUID.randomUUID();
+        persist(new SettingsBuilder(0, solution).withName(settingsName).withValue("value").withDomain("domain").build());
+
+        PageViewResponse pageView = pageViewService.getPageView(page.getUrl(), solution.getId(), validToken);
+
+        assertEquals(page.getId(), pageView.getPage().getId());
+        assertEquals(new HashSet<>(Arrays.asList(category1.getId(), category2.getId())),
+                pageView.getCategories().stream().map(CategoryResponse::getId).collect(Collectors.toSet()));
+
+        MenuResponse menuResponse = pageView.getMenus().stream()
+                .filter(candidate -> candidate.getId() == menu.getId())
+                .findFirst().get();
+        assertEquals(2, menuResponse.getItems().size());
+        assertEquals("https://example.com", menuResponse.getItems().get(0).getTargetUrl());
+        assertNull(menuResponse.getItems().get(0).getTargetPageUrl());
+        assertEquals(page.getUrl(), menuResponse.getItems().get(1).getTargetPageUrl());
+
+        assertTrue(pageView.getSettings().stream().anyMatch(settings -> settings.getName().equals(settingsName)));
+    }
+
+    @Test
+    public void getPageViewTestNoCategories() {
+        Page page = persistPage();
+        PageViewResponse pageView = pageViewService.getPageView(page.getUrl(), solution.getId(), validToken);
+        assertTrue(pageView.getCategories().isEmpty());
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void getPageViewTestNonExistingPage() {
+        pageViewService.getPageView("i_dont_exist", solution.getId(), validToken);
+    }
+
+    @Test(expected = AccessValidationException.class)
+    public void getPageViewTestNoAccessToSolution() {
+        Page page = persistPage();
+        pageViewService.getPageView(page.getUrl(), solution.getId() + 1000, validToken);
+    }
+
+    @Test
+    public void getPageViewTestTimeoutCancelsQueuedLookups() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        PageDao pageDao = mock(PageDao.class);
+        MenuDao menuDao = mock(MenuDao.class);
+        SettingsDao settingsDao = mock(SettingsDao.class);
+        given(pageDao.getPageByUrl(anyString(), anyLong())).willAnswer(invocation -> {
+            release.await();
+            throw new NoSuchElementException();
+        });
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        PageViewService service = new PageViewService(accessValidator, apiTokenDecoder, pageDao,
+                mock(CategoryItemDao.class), menuDao, settingsDao, executor, transactionManager, 100);
+        try {
+            service.getPageView("slow_page", solution.getId(), validToken);
+            fail();
+        } catch (PageViewTimeoutException e) {
+            assertTrue(e.getMessage().contains("timed out"));
+        } finally {
+            release.countDown();
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+        }
+        verify(menuDao, never()).getAllMenus(anyLong());
+        verify(settingsDao, never()).getAllSettings(anyLong());
+    }
+
+    private void persistCategoryItem(Category category, Page page) {
+        persist(new CategoryItemBuilder(0, category)
+                .withContentType(CategoryItemContentType.PAGE)
+                .withContentPage(page)
+                .build());
+    }
+
+    private Menu persistMenu() {
+        Menu menu = new Menu();
+        menu.setSolution(solution);
+        menu.setName("menu_" + UUID.randomUUID());
+        menu.setCreatedBy(user);
+        menu.setCreateDate(LocalDateTime.now());
+        menu.setState(MenuState.ACTIVE);
+        return persist(menu);
+    }
+
+    private void persistMenuItem(Menu menu, int index, Page targetPage, String targetUrl) {
+        MenuItem menuItem = new MenuItem();
+        menuItem.setMenu(menu);
+        menuItem.setName("item " + index);
+        menuItem.setTargetType(targetPage == null ? MenuItemTargetType.EXTERNAL_URL : MenuItemTargetType.PAGE);
+        menuItem.setTargetPage(targetPage);
+        menuItem.setTargetUrl(targetUrl);
+        menuItem.setIndex(index);
+        menuItem.setState(MenuItemState.ACTIVE);
+        persist(menuItem);
+    }
+}
@@ -0,0 +1,68 @@
+package pl.docmanager.web.warmup;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class AccessStatisticsTest {
+
+    @Test
+    public void topKeysTestMostAccessedFirstPerSolution() {
+        AccessStatistics statistics = new AccessStatistics(2, 100);
+        record(statistics, CachedResource.PAGE, 1, "rare", 1);
+        record(statistics, CachedResource.PAGE, 1, "popular", 5);
+        record(statistics, CachedResource.PAGE, 1, "common", 3);
+        record(statistics, CachedResource.PAGE, 2, "other", 1);
+        record(statistics, CachedResource.CATEGORY, 1, "category", 1);
+
+        List<HotKeys> hotKeys = statistics.topKeys();
+        assertEquals(3, hotKeys.size());
+        assertEquals(Arrays.asList("popular", "common"), find(hotKeys, CachedResource.PAGE, 1).getUrls());
+        assertEquals(Collections.singletonList("other"), find(hotKeys, CachedResource.PAGE, 2).getUrls());
+        assertEquals(Collections.singletonList("category"), find(hotKeys, CachedResource.CATEGORY, 1).getUrls());
+    }
+
+    @Test
+    public void recordTestMaxTrackedKeys() {
+        AccessStatistics statistics = new AccessStatistics(10, 2);
+        record(statistics, CachedResource.PAGE, 1, "first", 1);
+        record(statistics, CachedResource.PAGE, 1, "second", 1);
+        record(statistics, CachedResource.PAGE, 1, "third", 3);
+        record(statistics, CachedResource.PAGE, 1, "first", 1);
+
+        assertEquals(Arrays.asList("first", "second"), find(statistics.topKeys(), CachedResource.PAGE, 1).getUrls());
+    }
+
+    @Test
+    public void decayTestDropsKeysNoLongerRead() {
+        AccessStatistics statistics = new AccessStatistics(10, 2);
+        record(statistics, CachedResource.PAGE, 1, "old", 1);
+        record(statistics, CachedResource.PAGE, 1, "popular", 4);
+        statistics.decay();
+        record(statistics, CachedResource.PAGE, 1, "new", 3);
+
+        assertEquals(Arrays.asList("new", "popular"), find(statistics.topKeys(), CachedResource.PAGE, 1).getUrls());
+        statistics.decay();
+        statistics.decay();
+        statistics.decay();
+        assertTrue(statistics.topKeys().isEmpty());
+    }
+
+    private static void record(AccessStatistics statistics, CachedResource resource, long solutionId, String url,
+                               int times) {
+        for (int i = 0; i < times; i++) {
+            statistics.record(resource, solutionId, url);
+        }
+    }
+
+    private static HotKeys find(List<HotKeys> hotKeys, CachedResource resource, long solutionId) {
+        return hotKeys.stream()
+                .filter(candidate -> candidate.getResource() == resource && candidate.getSolutionId() == solutionId)
+                .findFirst().get();
+    }
+}
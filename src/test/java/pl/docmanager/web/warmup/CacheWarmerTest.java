@@ -0,0 +1,109 @@
+package pl.docmanager.web.warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.health.Status;
+import pl.docmanager.dao.DatabaseTestBase;
+import pl.docmanager.domain.category.Category;
+import pl.docmanager.domain.page.Page;
+import pl.docmanager.web.cache.CategoryResponseCache;
+import pl.docmanager.web.cache.PageResponseCache;
+import pl.docmanager.web.service.category.CategoryService;
+import pl.docmanager.web.service.page.PageService;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+public class CacheWarmerTest extends DatabaseTestBase {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Autowired
+    private PageService pageService;
+    @Autowired
+    private CategoryService categoryService;
+    @Autowired
+    private PageResponseCache pageResponseCache;
+    @Autowired
+    private CategoryResponseCache categoryResponseCache;
+
+    private HotKeysStore hotKeysStore;
+
+    @Before
+    public void setup() {
+        super.setup();
+        pageResponseCache.clear();
+        categoryResponseCache.clear();
+        hotKeysStore = new HotKeysStore(new ObjectMapper(), folder.getRoot().toPath().resolve("hot-keys.json"));
+    }
+
+    @Test
+    public void warmUpTestPreloadsHotKeys() {
+        Page page1 = persistPage();
+        Page page2 = persistPage();
+        Page page3 = persistPage();
+        Category category = persistCategory();
+        hotKeysStore.write(Arrays.asList(
+                new HotKeys(CachedResource.PAGE, solution.getId(),
+                        Arrays.asList(page1.getUrl(), page2.getUrl(), "deleted_page", page3.getUrl())),
+                new HotKeys(CachedResource.CATEGORY, solution.getId(), Collections.singletonList(category.getUrl()))));
+
+        CacheWarmer cacheWarmer = new CacheWarmer(new AccessStatistics(100, 100), hotKeysStore, pageService,
+                categoryService, 2, 2, 10000);
+        assertEquals(Status.OUT_OF_SERVICE, cacheWarmer.health().getStatus());
+        cacheWarmer.warmUp();
+
+        assertEquals(Status.UP, cacheWarmer.health().getStatus());
+        assertEquals(4, cacheWarmer.health().getDetails().get("preloaded"));
+        assertEquals(3, pageResponseCache.size());
+        assertEquals(1, categoryResponseCache.size());
+        pageResponseCache.get(PageResponseCache.key(solution.getId(), page3.getUrl()), () -> {
+            throw new AssertionError("Not preloaded");
+        });
+    }
+
+    @Test
+    public void warmUpTestBudgetSpent() {
+        PageService slowPageService = mock(PageService.class);
+        given(slowPageService.preloadPages(any(), anyLong())).willAnswer(invocation -> {
+            Thread.sleep(10000);
+            return 1;
+        });
+        hotKeysStore.write(Collections.singletonList(
+                new HotKeys(CachedResource.PAGE, solution.getId(), Arrays.asList("first", "second"))));
+
+        CacheWarmer cacheWarmer = new CacheWarmer(new AccessStatistics(100, 100), hotKeysStore, slowPageService,
+                categoryService, 1, 1, 200);
+        long start = System.currentTimeMillis();
+        cacheWarmer.warmUp();
+
+        assertTrue(System.currentTimeMillis() - start < 5000);
+        assertEquals(Status.UP, cacheWarmer.health().getStatus());
+        assertEquals(0, cacheWarmer.health().getDetails().get("preloaded"));
+    }
+
+    @Test
+    public void saveTestWritesTopKeys() {
+        AccessStatistics accessStatistics = new AccessStatistics(100, 100);
+        CacheWarmer cacheWarmer = new CacheWarmer(accessStatistics, hotKeysStore, pageService, categoryService,
+                1, 1, 200);
+        cacheWarmer.save();
+        assertTrue(hotKeysStore.read().isEmpty());
+
+        accessStatistics.record(CachedResource.PAGE, 1, "page");
+        cacheWarmer.persist();
+        assertEquals(Collections.singletonList("page"), hotKeysStore.read().get(0).getUrls());
+    }
+}
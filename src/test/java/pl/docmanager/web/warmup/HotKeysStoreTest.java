@@ -0,0 +1,52 @@
+package pl.docmanager.web.warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class HotKeysStoreTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    public void writeTestReadBack() {
+        Path file = folder.getRoot().toPath().resolve("nested").resolve("hot-keys.json");
+        HotKeysStore store = new HotKeysStore(objectMapper, file);
+        store.write(Arrays.asList(new HotKeys(CachedResource.PAGE, 1, Arrays.asList("first", "second")),
+                new HotKeys(CachedResource.CATEGORY, 2, Arrays.asList("category"))));
+
+        List<HotKeys> hotKeys = store.read();
+        assertEquals(2, hotKeys.size());
+        assertEquals(CachedResource.PAGE, hotKeys.get(0).getResource());
+        assertEquals(1, hotKeys.get(0).getSolutionId());
+        assertEquals(Arrays.asList("first", "second"), hotKeys.get(0).getUrls());
+        assertEquals(CachedResource.CATEGORY, hotKeys.get(1).getResource());
+        assertEquals(1, folder.getRoot().toPath().resolve("nested").toFile().list().length);
+    }
+
+    @Test
+    public void readTestMissingFile() {
+        assertTrue(new HotKeysStore(objectMapper, folder.getRoot().toPath().resolve("missing.json")).read().isEmpty());
+    }
+
+    @Test
+    public void readTestCorruptFile() throws IOException {
+        Path file = folder.newFile("hot-keys.json").toPath();
+        Files.write(file, "[{\"resource\": \"PAGE\", ".getBytes(StandardCharsets.UTF_8));
+        assertTrue(new HotKeysStore(objectMapper, file).read().isEmpty());
+    }
+}